@@ -0,0 +1,295 @@
+package com.azerite.cryptoairdropdiscovery.bulk;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropStatus;
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compact binary encoding of airdrop tweets.
+ * The stream starts with a 4 byte magic number followed by records, each prefixed with its length.
+ * A record holds the title, source, link, tasks and raw text as length-prefixed UTF-8 strings
+ * (length -1 for null) and the creation time as UTC epoch seconds and nanos. Since version 2 it
+ * also holds the status name and the deadline, so expired airdrops stay expired after a transfer,
+ * and since version 3 the number of matched profiles followed by their names.
+ * Older streams are still read; missing fields import as an active tweet without deadline or profiles.
+ * Identifiers are not written, imported tweets get new ones.
+ * The reader rejects records longer than a configured maximum before buffering them, and reports
+ * any record whose fields do not add up to its length as malformed input.
+ */
+final class BinaryTweetCodec {
+
+    static final int MAGIC = 0x41445433; // "ADT3"
+    static final int MAGIC_V2 = 0x41445432; // "ADT2"
+    static final int MAGIC_V1 = 0x41445431; // "ADT1"
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int NULL_LENGTH = -1;
+
+    private BinaryTweetCodec() {
+    }
+
+    /**
+     * Reads records from a channel.
+     */
+    static class Reader implements TweetReader {
+
+        private final ReadableByteChannel channel;
+        private final int maxRecordSize;
+        private final int magic;
+        // Offset in the input of the next record, for error messages
+        private long offset = Integer.BYTES;
+        private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).flip();
+
+        Reader(ReadableByteChannel channel, int maxRecordSize) throws IOException {
+            if (maxRecordSize <= 0) {
+                throw new IllegalArgumentException("Maximum record size must be positive");
+            }
+            this.channel = channel;
+            this.maxRecordSize = maxRecordSize;
+            if (!fill(Integer.BYTES)) {
+                throw new IOException("Input is not in the binary airdrop tweet format");
+            }
+            this.magic = buffer.getInt();
+            if (magic != MAGIC && magic != MAGIC_V2 && magic != MAGIC_V1) {
+                throw new IOException("Input is not in the binary airdrop tweet format");
+            }
+        }
+
+        @Override
+        public AirdropTweet read() throws IOException {
+            if (!fill(Integer.BYTES)) {
+                if (buffer.hasRemaining()) {
+                    throw new EOFException("Truncated record length");
+                }
+                return null;
+            }
+
+            int length = buffer.getInt();
+            if (length < 0 || length > maxRecordSize) {
+                throw new IOException("Record length " + length + " at offset " + offset + " is outside 0.."
+                        + maxRecordSize);
+            }
+            if (!fill(length)) {
+                throw new EOFException("Truncated record at offset " + offset);
+            }
+            String position = "offset " + offset;
+            offset += Integer.BYTES + length;
+
+            // Parse from a view of exactly one record, so a corrupt field length can not run into the next one
+            ByteBuffer record = buffer.slice(buffer.position(), length);
+            buffer.position(buffer.position() + length);
+            try {
+                AirdropTweet airdropTweet = readRecord(record);
+                if (record.hasRemaining()) {
+                    throw new IOException("Malformed record at " + position + ": " + record.remaining()
+                            + " trailing bytes");
+                }
+                return TweetReader.requireFields(airdropTweet, position);
+            } catch (BufferUnderflowException | DateTimeException | IllegalArgumentException e) {
+                throw new IOException("Malformed record at " + position, e);
+            }
+        }
+
+        private AirdropTweet readRecord(ByteBuffer record) throws IOException {
+            AirdropTweet airdropTweet = AirdropTweet.builder()
+                    .title(readString(record))
+                    .source(readString(record))
+                    .link(readString(record))
+                    .tasks(readString(record))
+                    .rawText(readString(record))
+                    .createdAt(readTime(record))
+                    .build();
+            if (magic != MAGIC_V1) {
+                String status = readString(record);
+                airdropTweet.setStatus(status != null ? AirdropStatus.valueOf(status) : null);
+                airdropTweet.setExpiresAt(readTime(record));
+            }
+            if (magic == MAGIC) {
+                airdropTweet.setProfiles(readProfiles(record));
+            }
+            return airdropTweet;
+        }
+
+        private static Set<String> readProfiles(ByteBuffer record) throws IOException {
+            int count = record.getInt();
+            // Every profile takes at least its length prefix, which bounds the count by the record
+            if (count < 0 || count > record.remaining() / Integer.BYTES) {
+                throw new IOException("Malformed record: profile count " + count + " exceeds the record");
+            }
+            Set<String> profiles = new LinkedHashSet<>(count);
+            for (int i = 0; i < count; i++) {
+                String profile = readString(record);
+                if (profile == null) {
+                    throw new IOException("Malformed record: null profile");
+                }
+                profiles.add(profile);
+            }
+            return profiles;
+        }
+
+        private static LocalDateTime readTime(ByteBuffer record) {
+            if (record.get() != 1) {
+                return null;
+            }
+            long epochSecond = record.getLong();
+            int nanos = record.getInt();
+            return LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC);
+        }
+
+        private static String readString(ByteBuffer record) throws IOException {
+            int length = record.getInt();
+            if (length == NULL_LENGTH) {
+                return null;
+            }
+            if (length < 0 || length > record.remaining()) {
+                throw new IOException("Malformed record: string length " + length + " exceeds the record");
+            }
+            String value = new String(record.array(), record.arrayOffset() + record.position(), length,
+                    StandardCharsets.UTF_8);
+            record.position(record.position() + length);
+            return value;
+        }
+
+        /**
+         * Makes sure the buffer holds at least the given number of unread bytes.
+         *
+         * @param needed Number of bytes needed
+         * @return false if the channel ended before enough bytes were read
+         */
+        private boolean fill(int needed) throws IOException {
+            if (buffer.remaining() >= needed) {
+                return true;
+            }
+
+            if (needed > buffer.capacity()) {
+                ByteBuffer larger = ByteBuffer.allocate(needed);
+                larger.put(buffer);
+                buffer = larger;
+            } else {
+                buffer.compact();
+            }
+
+            while (buffer.position() < needed) {
+                if (channel.read(buffer) < 0) {
+                    buffer.flip();
+                    return false;
+                }
+            }
+            buffer.flip();
+            return true;
+        }
+    }
+
+    /**
+     * Writes records to a channel.
+     */
+    static class Writer implements TweetWriter {
+
+        private final WritableByteChannel channel;
+        private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        Writer(WritableByteChannel channel) {
+            this.channel = channel;
+            buffer.putInt(MAGIC);
+        }
+
+        @Override
+        public void write(AirdropTweet airdropTweet) throws IOException {
+            byte[][] strings = {
+                    bytes(airdropTweet.getTitle()),
+                    bytes(airdropTweet.getSource()),
+                    bytes(airdropTweet.getLink()),
+                    bytes(airdropTweet.getTasks()),
+                    bytes(airdropTweet.getRawText())
+            };
+            byte[] status = bytes(airdropTweet.getStatus().name());
+            LocalDateTime createdAt = airdropTweet.getCreatedAt();
+            LocalDateTime expiresAt = airdropTweet.getExpiresAt();
+            List<byte[]> profiles = new ArrayList<>();
+            if (airdropTweet.getProfiles() != null) {
+                for (String profile : airdropTweet.getProfiles()) {
+                    profiles.add(bytes(profile));
+                }
+            }
+
+            int length = timeLength(createdAt) + Integer.BYTES + status.length + timeLength(expiresAt) + Integer.BYTES;
+            for (byte[] value : strings) {
+                length += Integer.BYTES + (value != null ? value.length : 0);
+            }
+            for (byte[] profile : profiles) {
+                length += Integer.BYTES + profile.length;
+            }
+
+            ensureCapacity(Integer.BYTES + length);
+            buffer.putInt(length);
+            for (byte[] value : strings) {
+                putString(value);
+            }
+            putTime(createdAt);
+            putString(status);
+            putTime(expiresAt);
+            buffer.putInt(profiles.size());
+            for (byte[] profile : profiles) {
+                putString(profile);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void ensureCapacity(int needed) throws IOException {
+            if (buffer.remaining() < needed) {
+                flush();
+            }
+            if (buffer.capacity() < needed) {
+                buffer = ByteBuffer.allocate(needed);
+            }
+        }
+
+        private void putString(byte[] value) {
+            if (value == null) {
+                buffer.putInt(NULL_LENGTH);
+            } else {
+                buffer.putInt(value.length).put(value);
+            }
+        }
+
+        private void putTime(LocalDateTime time) {
+            if (time != null) {
+                buffer.put((byte) 1)
+                        .putLong(time.toEpochSecond(ZoneOffset.UTC))
+                        .putInt(time.getNano());
+            } else {
+                buffer.put((byte) 0);
+            }
+        }
+
+        private static int timeLength(LocalDateTime time) {
+            return 1 + (time != null ? Long.BYTES + Integer.BYTES : 0);
+        }
+
+        private static byte[] bytes(String value) {
+            return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.azerite.cryptoairdropdiscovery.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+
+/**
+ * File formats supported for bulk import and export of airdrop tweets.
+ */
+public enum BulkFormat {
+
+    /**
+     * Newline delimited JSON, one tweet per line.
+     */
+    NDJSON("application/x-ndjson", ".ndjson"),
+
+    /**
+     * Compact binary format of length-prefixed records.
+     */
+    BINARY("application/octet-stream", ".bin");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    BulkFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Looks up a format by name, ignoring case.
+     *
+     * @param name The format name, e.g. "ndjson"
+     * @return The matching format
+     * @throws IllegalArgumentException If no format has this name
+     */
+    public static BulkFormat fromName(String name) {
+        for (BulkFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown bulk format: " + name);
+    }
+
+    TweetReader reader(InputStream in, ObjectMapper objectMapper, int maxRecordSize) throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonTweetCodec.Reader(in, objectMapper);
+            case BINARY -> new BinaryTweetCodec.Reader(Channels.newChannel(in), maxRecordSize);
+        };
+    }
+
+    TweetWriter writer(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonTweetCodec.Writer(out, objectMapper);
+            case BINARY -> new BinaryTweetCodec.Writer(Channels.newChannel(out));
+        };
+    }
+}
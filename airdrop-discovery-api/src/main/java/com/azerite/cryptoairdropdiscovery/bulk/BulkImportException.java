@@ -0,0 +1,32 @@
+package com.azerite.cryptoairdropdiscovery.bulk;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a bulk import fails part way through. Batches stored before the failure stay committed,
+ * so the exception reports how many tweets were imported; running the import again skips them.
+ */
+public class BulkImportException extends IOException {
+
+    private final long imported;
+
+    /**
+     * Constructor for BulkImportException.
+     *
+     * @param imported Number of tweets stored before the failure
+     * @param cause    The failure reading the input
+     */
+    public BulkImportException(long imported, Throwable cause) {
+        super(cause.getMessage(), cause);
+        this.imported = imported;
+    }
+
+    /**
+     * Gets the number of tweets stored before the failure.
+     *
+     * @return The number of imported tweets
+     */
+    public long getImported() {
+        return imported;
+    }
+}
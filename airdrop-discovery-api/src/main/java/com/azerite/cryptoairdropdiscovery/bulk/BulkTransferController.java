@@ -0,0 +1,80 @@
+package com.azerite.cryptoairdropdiscovery.bulk;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * REST controller for bulk import and export of airdrop tweets.
+ */
+@RestController
+@RequestMapping("/airdrops/bulk")
+@RequiredArgsConstructor
+@Slf4j
+public class BulkTransferController {
+
+    private final BulkTransferService bulkTransferService;
+
+    /**
+     * Endpoint to import tweets from the request body.
+     *
+     * @param format The format of the body, "ndjson" or "binary"
+     * @param gzip   Whether the body is gzip compressed
+     * @param body   The request body
+     * @return The number of imported tweets, or a 400 Bad Request with the number of tweets imported
+     * before the body turned out to be unreadable; those stay stored and are skipped if the import is retried
+     */
+    @PostMapping("/import")
+    public ResponseEntity<Map<String, Object>> importTweets(@RequestParam(defaultValue = "ndjson") String format,
+                                                            @RequestParam(defaultValue = "false") boolean gzip,
+                                                            InputStream body) {
+        try {
+            long imported = bulkTransferService.importFrom(body, BulkFormat.fromName(format), gzip);
+            return ResponseEntity.ok(Map.of("imported", imported));
+        } catch (BulkImportException e) {
+            log.warn("Bulk import failed after {} tweets: {}", e.getImported(), e.getMessage());
+            return ResponseEntity.badRequest().body(importFailure(e.getImported(), e));
+        } catch (IllegalArgumentException | IOException e) {
+            log.warn("Bulk import failed: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(importFailure(0, e));
+        }
+    }
+
+    /**
+     * Endpoint to export all tweets as a streamed download.
+     *
+     * @param format The format to export, "ndjson" or "binary"
+     * @param gzip   Whether to gzip compress the download
+     * @return The streamed export or a 400 Bad Request if the format is unknown
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTweets(@RequestParam(defaultValue = "ndjson") String format,
+                                                              @RequestParam(defaultValue = "false") boolean gzip) {
+        BulkFormat bulkFormat;
+        try {
+            bulkFormat = BulkFormat.fromName(format);
+        } catch (IllegalArgumentException e) {
+            log.warn("Bulk export failed: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        String fileName = "airdrop_tweets" + bulkFormat.getFileExtension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = out -> bulkTransferService.exportTo(out, bulkFormat, gzip);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : bulkFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
+    private static Map<String, Object> importFailure(long imported, Exception e) {
+        return Map.of("imported", imported, "error", "Bulk import failed: " + e.getMessage());
+    }
+}
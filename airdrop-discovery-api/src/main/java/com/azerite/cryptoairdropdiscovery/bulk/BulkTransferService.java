@@ -0,0 +1,131 @@
+package com.azerite.cryptoairdropdiscovery.bulk;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import com.azerite.cryptoairdropdiscovery.service.AirdropDiscoveryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams airdrop tweets in and out of the store in bulk.
+ * Imports are written in batches, each in its own transaction, and exports page through the
+ * store by identifier, so memory use does not depend on the number of tweets transferred.
+ * A failed import keeps the batches stored before the failure and reports their count.
+ */
+@Slf4j
+public class BulkTransferService {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final AirdropDiscoveryService airdropDiscoveryService;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxRecordSize;
+
+    /**
+     * Constructor for BulkTransferService.
+     *
+     * @param airdropDiscoveryService Service used to store and page through tweets
+     * @param objectMapper            Mapper used for the NDJSON format
+     * @param batchSize               Number of tweets written or read per batch
+     * @param maxRecordSize           Largest binary record accepted on import, in bytes
+     */
+    public BulkTransferService(AirdropDiscoveryService airdropDiscoveryService, ObjectMapper objectMapper,
+                               int batchSize, int maxRecordSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (maxRecordSize <= 0) {
+            throw new IllegalArgumentException("Maximum record size must be positive");
+        }
+        this.airdropDiscoveryService = airdropDiscoveryService;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxRecordSize = maxRecordSize;
+    }
+
+    /**
+     * Imports tweets from a stream. Identifiers in the input are ignored, and tweets whose link is
+     * already stored are skipped.
+     *
+     * @param in     The input stream, left open
+     * @param format The format of the input
+     * @param gzip   Whether the input is gzip compressed
+     * @return The number of newly imported tweets
+     * @throws BulkImportException If the input can not be read or is malformed part way through, with the
+     *                              number of tweets imported until then
+     * @throws IOException          If the input does not start with a valid header
+     */
+    public long importFrom(InputStream in, BulkFormat format, boolean gzip) throws IOException {
+        InputStream source = gzip ? new GZIPInputStream(in, GZIP_BUFFER_SIZE) : in;
+        TweetReader reader = format.reader(source, objectMapper, maxRecordSize);
+
+        long count = 0;
+        List<AirdropTweet> batch = new ArrayList<>(batchSize);
+        AirdropTweet airdropTweet;
+        try {
+            while ((airdropTweet = reader.read()) != null) {
+                airdropTweet.setId(null);
+                batch.add(airdropTweet);
+                if (batch.size() == batchSize) {
+                    count += store(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Bulk import failed after {} airdrop tweets in {} format", count, format);
+            throw new BulkImportException(count, e);
+        }
+        if (!batch.isEmpty()) {
+            count += store(batch);
+        }
+
+        log.info("Imported {} airdrop tweets in {} format", count, format);
+        return count;
+    }
+
+    /**
+     * Exports all tweets to a stream.
+     *
+     * @param out    The output stream, flushed but left open
+     * @param format The format to write
+     * @param gzip   Whether to gzip compress the output
+     * @return The number of exported tweets
+     * @throws IOException If the output can not be written
+     */
+    public long exportTo(OutputStream out, BulkFormat format, boolean gzip) throws IOException {
+        GZIPOutputStream gzipOut = gzip ? new GZIPOutputStream(out, GZIP_BUFFER_SIZE) : null;
+        TweetWriter writer = format.writer(gzip ? gzipOut : out, objectMapper);
+
+        long count = 0;
+        long afterId = 0;
+        List<AirdropTweet> page;
+        while (!(page = airdropDiscoveryService.findPage(afterId, batchSize)).isEmpty()) {
+            for (AirdropTweet airdropTweet : page) {
+                writer.write(airdropTweet);
+            }
+            count += page.size();
+            afterId = page.get(page.size() - 1).getId();
+        }
+
+        writer.flush();
+        if (gzipOut != null) {
+            gzipOut.finish();
+        }
+        out.flush();
+
+        log.info("Exported {} airdrop tweets in {} format", count, format);
+        return count;
+    }
+
+    private int store(List<AirdropTweet> batch) {
+        return airdropDiscoveryService.importTweets(batch).size();
+    }
+}
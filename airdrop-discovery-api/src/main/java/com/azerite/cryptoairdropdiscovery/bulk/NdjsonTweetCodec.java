@@ -0,0 +1,70 @@
+package com.azerite.cryptoairdropdiscovery.bulk;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Newline delimited JSON encoding of airdrop tweets.
+ */
+final class NdjsonTweetCodec {
+
+    private NdjsonTweetCodec() {
+    }
+
+    /**
+     * Reads one JSON object per line.
+     */
+    static class Reader implements TweetReader {
+
+        private final MappingIterator<AirdropTweet> iterator;
+
+        Reader(InputStream in, ObjectMapper objectMapper) throws IOException {
+            this.iterator = objectMapper.readerFor(AirdropTweet.class).readValues(in);
+        }
+
+        @Override
+        public AirdropTweet read() throws IOException {
+            if (!iterator.hasNextValue()) {
+                return null;
+            }
+            AirdropTweet airdropTweet = iterator.nextValue();
+            String position = "line " + iterator.getCurrentLocation().getLineNr();
+            if (airdropTweet == null) {
+                throw new IOException("Malformed record at " + position + ": null");
+            }
+            return TweetReader.requireFields(airdropTweet, position);
+        }
+    }
+
+    /**
+     * Writes one JSON object per line.
+     */
+    static class Writer implements TweetWriter {
+
+        private final OutputStream out;
+        private final ObjectWriter objectWriter;
+
+        Writer(OutputStream out, ObjectMapper objectMapper) {
+            this.out = new BufferedOutputStream(out, 64 * 1024);
+            this.objectWriter = objectMapper.writerFor(AirdropTweet.class);
+        }
+
+        @Override
+        public void write(AirdropTweet airdropTweet) throws IOException {
+            out.write(objectWriter.writeValueAsBytes(airdropTweet));
+            out.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+    }
+}
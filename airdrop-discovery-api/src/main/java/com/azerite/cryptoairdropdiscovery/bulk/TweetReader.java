@@ -0,0 +1,39 @@
+package com.azerite.cryptoairdropdiscovery.bulk;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+
+import java.io.IOException;
+
+/**
+ * Reads airdrop tweets one by one from a bulk file.
+ */
+interface TweetReader {
+
+    /**
+     * Reads the next tweet.
+     *
+     * @return The next tweet, or null at the end of the input
+     * @throws IOException If the input can not be read or is malformed
+     */
+    AirdropTweet read() throws IOException;
+
+    /**
+     * Checks that a tweet read from a bulk file has the fields every stored tweet needs.
+     *
+     * @param airdropTweet The tweet
+     * @param position     Where the tweet was read, for the error message
+     * @return The tweet
+     * @throws IOException If a required field is missing
+     */
+    static AirdropTweet requireFields(AirdropTweet airdropTweet, String position) throws IOException {
+        String missing = airdropTweet.getTitle() == null ? "title"
+                : airdropTweet.getSource() == null ? "source"
+                : airdropTweet.getLink() == null ? "link"
+                : airdropTweet.getRawText() == null ? "rawText"
+                : null;
+        if (missing != null) {
+            throw new IOException("Malformed record at " + position + ": missing " + missing);
+        }
+        return airdropTweet;
+    }
+}
@@ -0,0 +1,26 @@
+package com.azerite.cryptoairdropdiscovery.bulk;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+
+import java.io.IOException;
+
+/**
+ * Writes airdrop tweets one by one to a bulk file.
+ */
+interface TweetWriter {
+
+    /**
+     * Writes a tweet. Output may be buffered until {@link #flush()} is called.
+     *
+     * @param airdropTweet The tweet to write
+     * @throws IOException If the output can not be written
+     */
+    void write(AirdropTweet airdropTweet) throws IOException;
+
+    /**
+     * Writes all buffered output.
+     *
+     * @throws IOException If the output can not be written
+     */
+    void flush() throws IOException;
+}
@@ -0,0 +1,170 @@
+package com.azerite.cryptoairdropdiscovery.cluster;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Coordinates ingestion and configuration changes between the nodes of a cluster.
+ * Every tweet link is owned by exactly one node, chosen by hash of the link, so duplicate
+ * suppression only needs the state of the owning node.
+ */
+@Slf4j
+public class ClusterCoordinator {
+
+    private final boolean enabled;
+    private final int nodeIndex;
+    private final int nodeCount;
+    private final ClusterTransport transport;
+    private final Map<String, Boolean> recentLinks;
+
+    /**
+     * Constructor for ClusterCoordinator.
+     *
+     * @param nodeIndex      Index of this node, between 0 and nodeCount - 1
+     * @param nodeCount      Number of nodes in the cluster
+     * @param transport      Transport used to reach the other nodes
+     * @param dedupCacheSize Number of recently ingested links remembered for duplicate suppression
+     */
+    public ClusterCoordinator(int nodeIndex, int nodeCount, ClusterTransport transport, int dedupCacheSize) {
+        this(true, nodeIndex, nodeCount, transport, dedupCacheSize);
+    }
+
+    private ClusterCoordinator(boolean enabled, int nodeIndex, int nodeCount, ClusterTransport transport,
+                               int dedupCacheSize) {
+        if (nodeCount <= 0 || nodeIndex < 0 || nodeIndex >= nodeCount) {
+            throw new IllegalArgumentException("Node index must be between 0 and " + (nodeCount - 1));
+        }
+        this.enabled = enabled;
+        this.nodeIndex = nodeIndex;
+        this.nodeCount = nodeCount;
+        this.transport = transport;
+        this.recentLinks = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > dedupCacheSize;
+            }
+        };
+    }
+
+    /**
+     * Creates a coordinator for a single node that is not part of a cluster.
+     *
+     * @return A disabled coordinator owning every link
+     */
+    public static ClusterCoordinator standalone() {
+        return new ClusterCoordinator(false, 0, 1, null, 0);
+    }
+
+    /**
+     * Registers this node with the transport.
+     *
+     * @param ingestHandler Handler for ingest requests forwarded from other nodes
+     * @param eventListener Listener for events published by other nodes
+     */
+    public void join(ClusterTransport.IngestHandler ingestHandler, Consumer<ClusterEvent> eventListener) {
+        if (enabled) {
+            transport.join(nodeIndex, ingestHandler, eventListener);
+            log.info("Joined airdrop discovery cluster as node {} of {}", nodeIndex, nodeCount);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Determines which node owns a tweet link.
+     *
+     * @param link The link to the original tweet
+     * @return The index of the owning node
+     */
+    public int ownerOf(String link) {
+        return Math.floorMod(link.hashCode(), nodeCount);
+    }
+
+    /**
+     * Checks whether this node owns a tweet link.
+     *
+     * @param link The link to the original tweet
+     * @return true if this node is responsible for ingesting the tweet
+     */
+    public boolean isOwner(String link) {
+        return ownerOf(link) == nodeIndex;
+    }
+
+    /**
+     * Forwards an ingest request to the node owning the link.
+     *
+     * @param tweetText The raw text of the tweet
+     * @param source    The source of the tweet
+     * @param link      The link to the original tweet
+     * @return The saved AirdropTweet, or null if the owning node did not save it
+     */
+    public AirdropTweet forwardIngest(String tweetText, String source, String link) {
+        return transport.forwardIngest(ownerOf(link), tweetText, source, link);
+    }
+
+    /**
+     * Checks whether a link was recently ingested on this node.
+     *
+     * @param link The link to the original tweet
+     * @return true if the link was recorded as ingested and is still remembered
+     */
+    public boolean isRecentlySeen(String link) {
+        synchronized (recentLinks) {
+            return recentLinks.get(link) != null;
+        }
+    }
+
+    /**
+     * Records a link as ingested on this node, once its tweet has been committed.
+     *
+     * @param link The link to the original tweet
+     * @return true if the link was not seen recently, false if it is a duplicate
+     */
+    public boolean markSeen(String link) {
+        synchronized (recentLinks) {
+            return recentLinks.put(link, Boolean.TRUE) == null;
+        }
+    }
+
+    /**
+     * Tells the other nodes to drop their cached query results.
+     *
+     * @param version The data version of this node after the change
+     */
+    public void publishInvalidation(long version) {
+        publish(ClusterEvent.builder()
+                .type(ClusterEvent.Type.CACHE_INVALIDATED)
+                .version(version)
+                .build());
+    }
+
+    /**
+     * Tells the other nodes to apply a new keyword configuration.
+     *
+     * @param positiveKeywords The new positive keywords
+     * @param negativeKeywords The new negative keywords
+     * @param version          The data version of this node after the change
+     */
+    public void publishKeywords(List<String> positiveKeywords, List<String> negativeKeywords, long version) {
+        publish(ClusterEvent.builder()
+                .type(ClusterEvent.Type.KEYWORDS_CHANGED)
+                .positiveKeywords(positiveKeywords)
+                .negativeKeywords(negativeKeywords)
+                .version(version)
+                .build());
+    }
+
+    private void publish(ClusterEvent event) {
+        if (enabled) {
+            event.setOriginNode(nodeIndex);
+            transport.publish(event);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.azerite.cryptoairdropdiscovery.cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Event broadcast between the nodes of a cluster.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClusterEvent {
+
+    /**
+     * The kind of change this event announces.
+     */
+    private Type type;
+
+    /**
+     * Index of the node that published the event.
+     */
+    private int originNode;
+
+    /**
+     * Data version of the publishing node after the change; receiving nodes move their version up to it.
+     */
+    private long version;
+
+    /**
+     * The new positive keywords, for {@link Type#KEYWORDS_CHANGED} events.
+     */
+    private List<String> positiveKeywords;
+
+    /**
+     * The new negative keywords, for {@link Type#KEYWORDS_CHANGED} events.
+     */
+    private List<String> negativeKeywords;
+
+    /**
+     * Kinds of cluster events.
+     */
+    public enum Type {
+        /**
+         * Stored airdrop tweets changed, so cached query results must be dropped.
+         */
+        CACHE_INVALIDATED,
+
+        /**
+         * The keyword configuration changed and must be applied on every node.
+         */
+        KEYWORDS_CHANGED
+    }
+}
@@ -0,0 +1,48 @@
+package com.azerite.cryptoairdropdiscovery.cluster;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+
+import java.util.function.Consumer;
+
+/**
+ * Messaging between the nodes of a cluster.
+ * Implementations may use any broker or RPC mechanism; {@link LocalClusterTransport} connects nodes
+ * running in the same JVM.
+ */
+public interface ClusterTransport {
+
+    /**
+     * Registers a node with the transport.
+     *
+     * @param nodeIndex     Index of the joining node
+     * @param ingestHandler Handler for ingest requests forwarded to this node
+     * @param eventListener Listener for events published by other nodes
+     */
+    void join(int nodeIndex, IngestHandler ingestHandler, Consumer<ClusterEvent> eventListener);
+
+    /**
+     * Publishes an event to every node except the one that originated it.
+     *
+     * @param event The event to publish
+     */
+    void publish(ClusterEvent event);
+
+    /**
+     * Forwards an ingest request to the node owning the tweet and waits for its result.
+     *
+     * @param nodeIndex Index of the owning node
+     * @param tweetText The raw text of the tweet
+     * @param source    The source of the tweet
+     * @param link      The link to the original tweet
+     * @return The saved AirdropTweet, or null if the owning node did not save it
+     */
+    AirdropTweet forwardIngest(int nodeIndex, String tweetText, String source, String link);
+
+    /**
+     * Handles an ingest request on the owning node.
+     */
+    @FunctionalInterface
+    interface IngestHandler {
+        AirdropTweet ingest(String tweetText, String source, String link);
+    }
+}
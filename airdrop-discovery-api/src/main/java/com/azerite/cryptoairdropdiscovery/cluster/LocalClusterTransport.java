@@ -0,0 +1,43 @@
+package com.azerite.cryptoairdropdiscovery.cluster;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Transport connecting nodes that run inside the same JVM.
+ * Events and forwarded ingest requests are delivered synchronously on the calling thread.
+ * Useful for tests and for single-process deployments running several logical nodes.
+ */
+public class LocalClusterTransport implements ClusterTransport {
+
+    private final Map<Integer, Member> members = new ConcurrentHashMap<>();
+
+    @Override
+    public void join(int nodeIndex, IngestHandler ingestHandler, Consumer<ClusterEvent> eventListener) {
+        members.put(nodeIndex, new Member(ingestHandler, eventListener));
+    }
+
+    @Override
+    public void publish(ClusterEvent event) {
+        members.forEach((nodeIndex, member) -> {
+            if (nodeIndex != event.getOriginNode()) {
+                member.eventListener().accept(event);
+            }
+        });
+    }
+
+    @Override
+    public AirdropTweet forwardIngest(int nodeIndex, String tweetText, String source, String link) {
+        Member member = members.get(nodeIndex);
+        if (member == null) {
+            throw new IllegalStateException("No cluster node registered with index " + nodeIndex);
+        }
+        return member.ingestHandler().ingest(tweetText, source, link);
+    }
+
+    private record Member(IngestHandler ingestHandler, Consumer<ClusterEvent> eventListener) {
+    }
+}
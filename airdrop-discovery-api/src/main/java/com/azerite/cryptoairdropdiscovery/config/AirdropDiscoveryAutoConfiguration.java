@@ -1,47 +1,185 @@
 package com.azerite.cryptoairdropdiscovery.config;
 
+import com.azerite.cryptoairdropdiscovery.bulk.BulkTransferController;
+import com.azerite.cryptoairdropdiscovery.bulk.BulkTransferService;
+import com.azerite.cryptoairdropdiscovery.cluster.ClusterCoordinator;
+import com.azerite.cryptoairdropdiscovery.cluster.ClusterTransport;
 import com.azerite.cryptoairdropdiscovery.controller.AirdropController;
+import com.azerite.cryptoairdropdiscovery.controller.KeywordController;
+import com.azerite.cryptoairdropdiscovery.lifecycle.ExpiryScheduler;
+import com.azerite.cryptoairdropdiscovery.reactive.ReactiveAirdropController;
 import com.azerite.cryptoairdropdiscovery.repository.AirdropTweetRepository;
 import com.azerite.cryptoairdropdiscovery.service.AirdropDiscoveryService;
+import com.azerite.cryptoairdropdiscovery.service.AirdropDiscoveryStarter;
+import com.azerite.cryptoairdropdiscovery.service.WebhookNotifier;
+import com.azerite.cryptoairdropdiscovery.storage.AirdropTweetStore;
+import com.azerite.cryptoairdropdiscovery.storage.ConcurrencyLimitInterceptor;
+import com.azerite.cryptoairdropdiscovery.storage.InMemoryAirdropTweetStore;
+import com.azerite.cryptoairdropdiscovery.storage.JpaAirdropTweetStore;
+import com.azerite.cryptoairdropdiscovery.storage.JpaColumnBackfill;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.aop.support.annotation.AnnotationMethodMatcher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Auto-configuration for Crypto Airdrop Discovery API.
  * This configuration will be automatically loaded when the starter is included in a Spring Boot project.
+ * All beans are registered explicitly, without component scanning, and bean methods are not proxied,
+ * which keeps startup short and lets the configuration be processed ahead of time for native images.
  */
-@Configuration
 @AutoConfiguration
 @EnableConfigurationProperties(AirdropDiscoveryProperties.class)
 @ConditionalOnProperty(prefix = "azerite.airdrop-discovery", name = "enabled", havingValue = "true", matchIfMissing = true)
-@EntityScan(basePackages = "com.azerite.cryptoairdropdiscovery.model")
-@EnableJpaRepositories(basePackages = "com.azerite.cryptoairdropdiscovery.repository")
-@ComponentScan(basePackages = {
-        "com.azerite.cryptoairdropdiscovery.service",
-        "com.azerite.cryptoairdropdiscovery.controller"
-})
+@ImportRuntimeHints(AirdropDiscoveryRuntimeHints.class)
 public class AirdropDiscoveryAutoConfiguration {
 
+    /**
+     * Creates an in-memory AirdropTweetStore when the memory storage backend is selected.
+     *
+     * @param properties Configuration properties for the store
+     * @return A new InMemoryAirdropTweetStore instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "azerite.airdrop-discovery.storage", name = "type", havingValue = "memory")
+    public AirdropTweetStore inMemoryAirdropTweetStore(AirdropDiscoveryProperties properties) {
+        List<String> indexedKeywords = new ArrayList<>(properties.getKeywords().getPositive());
+        indexedKeywords.addAll(properties.getKeywords().getNegative());
+        return new InMemoryAirdropTweetStore(
+                properties.getStorage().getMemory().getCapacity(),
+                properties.getStorage().getMemory().getRetention(),
+                indexedKeywords);
+    }
+
+    /**
+     * Creates a WebhookNotifier bean if one does not already exist.
+     * Notifications are sent on virtual threads when {@code spring.threads.virtual.enabled} is set,
+     * otherwise on the calling thread.
+     *
+     * @param properties  Configuration properties for the notifier
+     * @param environment The environment used to look up the threading mode
+     * @return A new WebhookNotifier instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public WebhookNotifier webhookNotifier(AirdropDiscoveryProperties properties, Environment environment) {
+        Executor executor = Threading.VIRTUAL.isActive(environment)
+                ? task -> Thread.ofVirtual().name("airdrop-webhook").start(task)
+                : Runnable::run;
+        return new WebhookNotifier(properties, executor);
+    }
+
+    /**
+     * Creates a ClusterCoordinator bean if one does not already exist.
+     * Without cluster mode the coordinator is a standalone node owning every tweet. Cluster mode requires
+     * a store shared by all nodes, so it is rejected together with the in-memory store.
+     *
+     * @param properties Configuration properties for the cluster
+     * @param transport  The transport connecting the nodes, required in cluster mode
+     * @return A new ClusterCoordinator instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ClusterCoordinator clusterCoordinator(AirdropDiscoveryProperties properties,
+                                                 ObjectProvider<ClusterTransport> transport) {
+        AirdropDiscoveryProperties.Cluster cluster = properties.getCluster();
+        if (!cluster.isEnabled()) {
+            return ClusterCoordinator.standalone();
+        }
+        if (properties.getStorage().getType() == AirdropDiscoveryProperties.StorageType.MEMORY) {
+            throw new IllegalStateException("Cluster mode requires a shared store and cannot be used with "
+                    + "storage type memory");
+        }
+
+        ClusterTransport clusterTransport = transport.getIfAvailable();
+        if (clusterTransport == null) {
+            throw new IllegalStateException("Cluster mode is enabled but no ClusterTransport bean is defined");
+        }
+        return new ClusterCoordinator(cluster.getNodeIndex(), cluster.getNodeCount(), clusterTransport,
+                cluster.getDedupCacheSize());
+    }
+
+    /**
+     * Creates an ExpiryScheduler bean if one does not already exist.
+     * The scheduler thread is started once the context is ready and stopped when the context closes.
+     *
+     * @param store      The store holding the airdrops
+     * @param properties Configuration properties for expiry
+     * @return A new ExpiryScheduler instance, disabled if expiry is turned off
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ExpiryScheduler expiryScheduler(AirdropTweetStore store, AirdropDiscoveryProperties properties) {
+        AirdropDiscoveryProperties.Expiry expiry = properties.getExpiry();
+        if (!expiry.isEnabled()) {
+            return ExpiryScheduler.disabled();
+        }
+        return new ExpiryScheduler(store, expiry.getTick(), expiry.getWheelSize(), expiry.getReconcileInterval());
+    }
+
     /**
      * Creates an AirdropDiscoveryService bean if one does not already exist.
      *
-     * @param repository The repository for accessing tweet data
-     * @param properties Configuration properties for the service
+     * @param store              The store for accessing tweet data
+     * @param properties         Configuration properties for the service
+     * @param webhookNotifier    The notifier for newly detected airdrops
+     * @param clusterCoordinator The coordinator for the other nodes of the cluster
+     * @param expiryScheduler    The scheduler expiring airdrops past their deadline
      * @return A new AirdropDiscoveryService instance
      */
     @Bean
     @ConditionalOnMissingBean
-    public AirdropDiscoveryService airdropDiscoveryService(AirdropTweetRepository repository,
-                                                           AirdropDiscoveryProperties properties) {
-        return new AirdropDiscoveryService(repository, properties);
+    public AirdropDiscoveryService airdropDiscoveryService(AirdropTweetStore store,
+                                                           AirdropDiscoveryProperties properties,
+                                                           WebhookNotifier webhookNotifier,
+                                                           ClusterCoordinator clusterCoordinator,
+                                                           ExpiryScheduler expiryScheduler) {
+        return new AirdropDiscoveryService(store, properties, webhookNotifier, clusterCoordinator, expiryScheduler);
+    }
+
+    /**
+     * Creates the starter that joins the cluster and starts expiry once the context has created every bean.
+     *
+     * @param service            The airdrop discovery service bean
+     * @param clusterCoordinator The coordinator for the other nodes of the cluster
+     * @param expiryScheduler    The scheduler expiring airdrops past their deadline
+     * @return A new AirdropDiscoveryStarter instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(AirdropDiscoveryService.class)
+    public AirdropDiscoveryStarter airdropDiscoveryStarter(AirdropDiscoveryService service,
+                                                           ClusterCoordinator clusterCoordinator,
+                                                           ExpiryScheduler expiryScheduler) {
+        return new AirdropDiscoveryStarter(service, clusterCoordinator, expiryScheduler);
     }
 
     /**
@@ -56,4 +194,153 @@ public class AirdropDiscoveryAutoConfiguration {
     public AirdropController airdropController(AirdropDiscoveryService service) {
         return new AirdropController(service);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Creates a KeywordController bean if keyword updates are enabled, the service exists and a keyword
+     * controller does not already exist.
+     *
+     * @param service The airdrop discovery service
+     * @return A new KeywordController instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(AirdropDiscoveryService.class)
+    @ConditionalOnProperty(prefix = "azerite.airdrop-discovery.keyword-updates", name = "enabled", havingValue = "true")
+    public KeywordController keywordController(AirdropDiscoveryService service) {
+        return new KeywordController(service);
+    }
+
+    /**
+     * Creates a BulkTransferService bean if bulk transfers are enabled, the service exists and a bulk service
+     * does not already exist.
+     *
+     * @param service      The airdrop discovery service
+     * @param objectMapper The mapper used for the NDJSON format
+     * @param properties   Configuration properties for bulk transfers
+     * @return A new BulkTransferService instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(AirdropDiscoveryService.class)
+    @ConditionalOnProperty(prefix = "azerite.airdrop-discovery.bulk", name = "enabled", havingValue = "true")
+    public BulkTransferService bulkTransferService(AirdropDiscoveryService service,
+                                                   ObjectProvider<ObjectMapper> objectMapper,
+                                                   AirdropDiscoveryProperties properties) {
+        ObjectMapper mapper = objectMapper.getIfAvailable(() -> new ObjectMapper().findAndRegisterModules());
+        AirdropDiscoveryProperties.Bulk bulk = properties.getBulk();
+        return new BulkTransferService(service, mapper, bulk.getBatchSize(),
+                Math.toIntExact(bulk.getMaxRecordSize().toBytes()));
+    }
+
+    /**
+     * Creates a BulkTransferController bean if bulk transfers are enabled, the bulk service exists and
+     * a controller does not already exist.
+     *
+     * @param bulkTransferService The bulk transfer service
+     * @return A new BulkTransferController instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(BulkTransferService.class)
+    @ConditionalOnProperty(prefix = "azerite.airdrop-discovery.bulk", name = "enabled", havingValue = "true")
+    public BulkTransferController bulkTransferController(BulkTransferService bulkTransferService) {
+        return new BulkTransferController(bulkTransferService);
+    }
+
+    /**
+     * JPA storage backend, the default. Entity and repository scanning only happen when it is selected.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "azerite.airdrop-discovery.storage", name = "type", havingValue = "jpa", matchIfMissing = true)
+    @EntityScan(basePackages = "com.azerite.cryptoairdropdiscovery.model")
+    @EnableJpaRepositories(basePackages = "com.azerite.cryptoairdropdiscovery.repository")
+    static class JpaConfiguration {
+
+        private static final int BACKFILL_BATCH_SIZE = 500;
+
+        /**
+         * Creates the default JPA backed AirdropTweetStore if no other store exists.
+         *
+         * @param repository The repository for accessing tweet data
+         * @return A new JpaAirdropTweetStore instance
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public AirdropTweetStore airdropTweetStore(AirdropTweetRepository repository) {
+            return new JpaAirdropTweetStore(repository);
+        }
+
+        /**
+         * Creates the runner filling columns that rows stored by earlier versions lack, if the backfill is enabled.
+         *
+         * @param repository         The repository for accessing tweet data
+         * @param transactionManager The transaction manager running each batch
+         * @return A new JpaColumnBackfill instance
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnProperty(prefix = "azerite.airdrop-discovery.storage", name = "backfill-folded-columns",
+                havingValue = "true")
+        public JpaColumnBackfill jpaColumnBackfill(AirdropTweetRepository repository,
+                                                   PlatformTransactionManager transactionManager) {
+            return new JpaColumnBackfill(repository, new TransactionTemplate(transactionManager), BACKFILL_BATCH_SIZE);
+        }
+    }
+
+    /**
+     * Reactive read API, enabled when WebFlux and Reactor are on the classpath.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = {"reactor.core.publisher.Flux", "org.springframework.web.reactive.DispatcherHandler"})
+    static class ReactiveConfiguration {
+
+        /**
+         * Creates a ReactiveAirdropController bean if one does not already exist.
+         * Nested configurations are registered before the enclosing bean methods, so the service
+         * can not be a bean condition here.
+         *
+         * @param service The airdrop discovery service
+         * @return A new ReactiveAirdropController instance
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public ReactiveAirdropController reactiveAirdropController(AirdropDiscoveryService service) {
+            return new ReactiveAirdropController(service);
+        }
+    }
+
+    /**
+     * Connection pool protection for virtual threads, enabled with Spring Boot's {@code spring.threads.virtual.enabled}.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    @ConditionalOnProperty(prefix = "azerite.airdrop-discovery.storage", name = "type", havingValue = "jpa", matchIfMissing = true)
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static class VirtualThreadConfiguration {
+
+        /**
+         * Limits the transactional service methods to as many concurrent calls as the connection pool can serve.
+         * The advisor is ordered ahead of the transaction advisor, so a caller holds a permit before its
+         * transaction checks out a connection and waits cheaply on its virtual thread otherwise.
+         *
+         * @param properties  Configuration properties for the limit
+         * @param environment The environment used to look up the connection pool size
+         * @return An advisor applying a ConcurrencyLimitInterceptor to the AirdropDiscoveryService
+         */
+        @Bean
+        @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+        static Advisor airdropConcurrencyLimitAdvisor(AirdropDiscoveryProperties properties, Environment environment) {
+            int maxConcurrent = properties.getThreading().getMaxConcurrentStoreOperations();
+            if (maxConcurrent <= 0) {
+                maxConcurrent = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+            }
+
+            ComposablePointcut pointcut = new ComposablePointcut(new RootClassFilter(AirdropDiscoveryService.class),
+                    new AnnotationMethodMatcher(Transactional.class, true));
+            DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut,
+                    new ConcurrencyLimitInterceptor(maxConcurrent));
+            advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            return advisor;
+        }
+    }
+}
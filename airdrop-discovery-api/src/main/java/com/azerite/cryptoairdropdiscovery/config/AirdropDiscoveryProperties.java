@@ -2,9 +2,13 @@ package com.azerite.cryptoairdropdiscovery.config;
 
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
-import java.util.Arrays;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Configuration properties for the Airdrop Discovery API.
@@ -24,6 +28,18 @@ public class AirdropDiscoveryProperties {
      */
     private Keywords keywords = new Keywords();
 
+    /**
+     * Runtime keyword update configuration.
+     */
+    private KeywordUpdates keywordUpdates = new KeywordUpdates();
+
+    /**
+     * Named keyword profiles evaluated together with the default keywords, e.g. one per team.
+     * A tweet is stored when it matches the default keywords or any profile, and remembers the profiles
+     * it matched. A profile that leaves out a list gets the built-in list, not the configured top-level keywords.
+     */
+    private Map<String, Keywords> profiles = new LinkedHashMap<>();
+
     /**
      * Database table name configurations.
      */
@@ -34,20 +50,76 @@ public class AirdropDiscoveryProperties {
      */
     private Integration integration = new Integration();
 
+    /**
+     * Storage backend configuration.
+     */
+    private Storage storage = new Storage();
+
+    /**
+     * Threading configuration.
+     */
+    private Threading threading = new Threading();
+
+    /**
+     * Query result cache configuration.
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * Cluster configuration for running several instances against the same database.
+     */
+    private Cluster cluster = new Cluster();
+
+    /**
+     * Bulk import and export configuration.
+     */
+    private Bulk bulk = new Bulk();
+
+    /**
+     * Boolean filter query configuration.
+     */
+    private Query query = new Query();
+
+    /**
+     * Expiry of airdrops whose deadline has passed.
+     */
+    private Expiry expiry = new Expiry();
+
     /**
      * Keywords configuration for airdrop detection.
      */
     @Data
     public static class Keywords {
+        /**
+         * Built-in positive keywords, also used for reads while no positive keyword is configured.
+         */
+        public static final List<String> DEFAULT_POSITIVE = List.of("follow", "mint", "galxe", "zk", "claim");
+
+        /**
+         * Built-in negative keywords, used together with the built-in positive keywords.
+         */
+        public static final List<String> DEFAULT_NEGATIVE = List.of("scam", "ended");
+
         /**
          * List of positive keywords that indicate a tweet is about an airdrop.
          */
-        private List<String> positive = Arrays.asList("follow", "mint", "galxe", "zk", "claim");
+        private List<String> positive = new ArrayList<>(DEFAULT_POSITIVE);
 
         /**
          * List of negative keywords that indicate a tweet should be excluded.
          */
-        private List<String> negative = Arrays.asList("scam", "ended");
+        private List<String> negative = new ArrayList<>(DEFAULT_NEGATIVE);
+    }
+
+    /**
+     * Runtime keyword update configuration.
+     */
+    @Data
+    public static class KeywordUpdates {
+        /**
+         * Whether the endpoint replacing the keyword configuration on every node is registered.
+         */
+        private boolean enabled = false;
     }
 
     /**
@@ -76,4 +148,182 @@ public class AirdropDiscoveryProperties {
          */
         private String webhookUrl;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Storage backend configuration.
+     */
+    @Data
+    public static class Storage {
+        /**
+         * The storage backend used for airdrop tweets.
+         */
+        private StorageType type = StorageType.JPA;
+
+        /**
+         * Fill the folded text columns of rows stored by older versions when the application starts.
+         * Only needed once after upgrading, as it scans the table for rows without them.
+         */
+        private boolean backfillFoldedColumns = false;
+
+        /**
+         * Settings for the in-memory storage backend.
+         */
+        private Memory memory = new Memory();
+    }
+
+    /**
+     * In-memory storage backend configuration.
+     */
+    @Data
+    public static class Memory {
+        /**
+         * Maximum number of airdrop tweets kept in memory. Older tweets are evicted first.
+         */
+        private int capacity = 100_000;
+
+        /**
+         * Maximum age of an airdrop tweet before it is no longer returned.
+         */
+        private Duration retention = Duration.ofHours(24);
+    }
+
+    /**
+     * Threading configuration.
+     */
+    @Data
+    public static class Threading {
+        /**
+         * Maximum number of concurrent service transactions when running on virtual threads
+         * ({@code spring.threads.virtual.enabled}). Defaults to the maximum size of the Hikari connection
+         * pool when not set.
+         */
+        private int maxConcurrentStoreOperations = 0;
+    }
+
+    /**
+     * Query result cache configuration.
+     */
+    @Data
+    public static class Cache {
+        /**
+         * How long filtered airdrop results are cached. Saves invalidate the cache immediately.
+         * Zero disables caching.
+         */
+        private Duration filteredResultsTtl = Duration.ZERO;
+    }
+
+    /**
+     * Cluster configuration.
+     */
+    @Data
+    public static class Cluster {
+        /**
+         * Enable cluster coordination. Requires a ClusterTransport bean and the JPA store.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Index of this node, between 0 and node-count - 1.
+         */
+        private int nodeIndex = 0;
+
+        /**
+         * Number of nodes in the cluster.
+         */
+        private int nodeCount = 1;
+
+        /**
+         * Number of recently ingested links each node remembers for duplicate suppression.
+         */
+        private int dedupCacheSize = 10_000;
+    }
+
+    /**
+     * Bulk import and export configuration.
+     */
+    @Data
+    public static class Bulk {
+        /**
+         * Whether the bulk transfer service and its import and export endpoints are registered.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Number of tweets written per transaction on import and read per page on export.
+         */
+        private int batchSize = 1000;
+
+        /**
+         * Largest record accepted by a binary import. Longer records are rejected before they are buffered.
+         */
+        private DataSize maxRecordSize = DataSize.ofMegabytes(1);
+    }
+
+    /**
+     * Boolean filter query limits. Queries exceeding them are rejected before reaching the store.
+     */
+    @Data
+    public static class Query {
+        /**
+         * Maximum length of a filter query in characters.
+         */
+        private int maxLength = 512;
+
+        /**
+         * Maximum number of terms in a filter query.
+         */
+        private int maxTerms = 16;
+
+        /**
+         * Maximum nesting depth of parentheses and NOT operators.
+         */
+        private int maxDepth = 8;
+
+        /**
+         * Maximum number of tweets returned by a filter query, newest first.
+         */
+        private int maxResults = 500;
+    }
+
+    /**
+     * Expiry configuration. Deadlines parsed from tweets are tracked on a timer wheel and expired in bulk.
+     */
+    @Data
+    public static class Expiry {
+        /**
+         * Flag to enable/disable expiring airdrops once their deadline has passed.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Resolution of the timer wheel; an airdrop stays active at most this long after its deadline.
+         */
+        private Duration tick = Duration.ofMinutes(1);
+
+        /**
+         * Number of ticks in one revolution of the timer wheel.
+         */
+        private int wheelSize = 512;
+
+        /**
+         * Interval of the sweep over all stored deadlines, which catches deadlines scheduled before a
+         * restart or on other cluster nodes.
+         */
+        private Duration reconcileInterval = Duration.ofMinutes(15);
+    }
+
+    /**
+     * Available storage backends.
+     */
+    public enum StorageType {
+        /**
+         * Stores airdrop tweets in the database through Spring Data JPA.
+         */
+        JPA,
+
+        /**
+         * Keeps a bounded window of recent airdrop tweets in memory only.
+         */
+        MEMORY
+    }
+}
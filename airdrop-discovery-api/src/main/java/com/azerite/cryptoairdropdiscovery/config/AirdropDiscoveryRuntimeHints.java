@@ -0,0 +1,26 @@
+package com.azerite.cryptoairdropdiscovery.config;
+
+import com.azerite.cryptoairdropdiscovery.cluster.ClusterEvent;
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Registers the reflection hints the starter needs in a GraalVM native image.
+ * Controller return types are covered by Spring itself. These hints add the types that are
+ * serialized elsewhere: tweets written by the bulk NDJSON codec and events sent through a cluster transport,
+ * and the filter Jackson instantiates to leave unloaded profiles out of a tweet.
+ */
+class AirdropDiscoveryRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(), AirdropTweet.class, ClusterEvent.class);
+        hints.reflection().registerType(AirdropTweet.UninitializedFilter.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+}
@@ -1,11 +1,15 @@
 package com.azerite.cryptoairdropdiscovery.controller;
 
 import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression;
+import com.azerite.cryptoairdropdiscovery.query.Since;
 import com.azerite.cryptoairdropdiscovery.service.AirdropDiscoveryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -50,31 +54,132 @@ public class AirdropController {
     }
 
     /**
-     * Endpoint to get filtered airdrop tweets based on configured keywords.
+     * Endpoint to get filtered airdrop tweets based on configured keywords, or on a named keyword profile.
+     * Responds with 304 Not Modified when the client already has the current data version.
      *
-     * @return A list of AirdropTweet objects that match the filter criteria
+     * @param profile Optional name of a keyword profile; without it the default keywords are used
+     * @param since   Optional id or ISO-8601 timestamp; only newer tweets are returned
+     * @param request The current request, used for conditional GET handling
+     * @return A list of AirdropTweet objects that match the filter criteria, or a 400 Bad Request
+     * if the profile is unknown
      */
     @GetMapping("/filtered")
-    public ResponseEntity<List<AirdropTweet>> getFilteredAirdrops() {
-        List<AirdropTweet> airdrops = airdropDiscoveryService.getFilteredAirdrops();
+    public ResponseEntity<List<AirdropTweet>> getFilteredAirdrops(@RequestParam(required = false) String profile,
+                                                                  @RequestParam(required = false) String since,
+                                                                  WebRequest request) {
+        Since bound;
+        try {
+            bound = Since.parse(since);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid since parameter: {}", since);
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (profile != null) {
+            try {
+                airdropDiscoveryService.requireProfile(profile);
+            } catch (IllegalArgumentException e) {
+                log.warn("Unknown keyword profile: {}", profile);
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
+        if (isNotModified(request)) {
+            return null;
+        }
+
+        List<AirdropTweet> airdrops = profile == null
+                ? airdropDiscoveryService.getFilteredAirdrops(bound)
+                : airdropDiscoveryService.getProfileAirdrops(profile, bound);
         log.info("Returning {} filtered airdrop tweets", airdrops.size());
-        return ResponseEntity.ok(airdrops);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(airdrops);
     }
 
     /**
      * Endpoint to search for airdrop tweets by keyword.
+     * Responds with 304 Not Modified when the client already has the current data version.
      *
      * @param keyword The keyword to search for
+     * @param since   Optional id or ISO-8601 timestamp; only newer tweets are returned
+     * @param request The current request, used for conditional GET handling
      * @return A list of matching airdrop tweets
      */
     @GetMapping("/search")
-    public ResponseEntity<List<AirdropTweet>> searchAirdrops(@RequestParam String keyword) {
+    public ResponseEntity<List<AirdropTweet>> searchAirdrops(@RequestParam String keyword,
+                                                             @RequestParam(required = false) String since,
+                                                             WebRequest request) {
         if (keyword == null || keyword.trim().isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
 
-        List<AirdropTweet> results = airdropDiscoveryService.searchByKeyword(keyword);
+        Since bound;
+        try {
+            bound = Since.parse(since);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid since parameter: {}", since);
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (isNotModified(request)) {
+            return null;
+        }
+
+        List<AirdropTweet> results = airdropDiscoveryService.searchByKeyword(keyword, bound);
         log.info("Found {} airdrops matching keyword: {}", results.size(), keyword);
-        return ResponseEntity.ok(results);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(results);
+    }
+
+    /**
+     * Endpoint to find airdrop tweets with a boolean filter over keywords, sources, tasks and dates.
+     * Responds with 304 Not Modified when the client already has the current data version.
+     *
+     * @param q       The filter query, e.g. {@code (mint OR claim) AND source:twitter AND NOT scam}
+     * @param since   Optional id or ISO-8601 timestamp; only newer tweets are returned
+     * @param request The current request, used for conditional GET handling
+     * @return The newest matching airdrop tweets or a 400 Bad Request if the query is invalid
+     */
+    @GetMapping("/query")
+    public ResponseEntity<?> queryAirdrops(@RequestParam String q,
+                                           @RequestParam(required = false) String since,
+                                           WebRequest request) {
+        Since bound;
+        try {
+            bound = Since.parse(since);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid since parameter: {}", since);
+            return ResponseEntity.badRequest().build();
+        }
+
+        FilterExpression expression;
+        try {
+            expression = airdropDiscoveryService.parseQuery(q);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid filter query '{}': {}", q, e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+
+        if (isNotModified(request)) {
+            return null;
+        }
+
+        List<AirdropTweet> results = airdropDiscoveryService.query(expression, bound);
+        log.info("Found {} airdrops matching filter: {}", results.size(), q);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(results);
+    }
+
+    /**
+     * Checks the request against the current data version once the request has been validated and before
+     * any query runs. The ETag header is added to the response in either case. No Last-Modified header is
+     * sent: the version is not a time and HTTP dates only have second precision, so the ETag is the only
+     * validator.
+     *
+     * @param request The current request
+     * @return true if a 304 Not Modified response has been prepared
+     */
+    private boolean isNotModified(WebRequest request) {
+        // The version only moves after a change has committed, and it is read here before querying. A change
+        // committing concurrently is then either invisible to the query, or visible and about to move the
+        // version past this tag, so a tag is never newer than the body it is sent with
+        return request.checkNotModified(airdropDiscoveryService.getDataVersion());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package com.azerite.cryptoairdropdiscovery.controller;
+
+import com.azerite.cryptoairdropdiscovery.service.AirdropDiscoveryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller for replacing the keyword configuration at runtime.
+ * Only registered when keyword updates are enabled, as it changes what every node stores.
+ */
+@RestController
+@RequestMapping("/airdrops")
+@RequiredArgsConstructor
+@Slf4j
+public class KeywordController {
+
+    private final AirdropDiscoveryService airdropDiscoveryService;
+
+    /**
+     * Endpoint to replace the keyword configuration. In cluster mode the change is applied on every node.
+     *
+     * @param payload A map containing the positive and negative keyword lists
+     * @return The applied keywords or a 400 Bad Request if a list is missing or contains null
+     */
+    @PutMapping("/keywords")
+    public ResponseEntity<?> updateKeywords(@RequestBody Map<String, List<String>> payload) {
+        List<String> positive = payload.get("positive");
+        List<String> negative = payload.get("negative");
+
+        if (positive == null || negative == null || positive.contains(null) || negative.contains(null)) {
+            log.warn("Missing or null keyword list in update request");
+            return ResponseEntity.badRequest().body("Missing required field: positive or negative");
+        }
+
+        airdropDiscoveryService.updateKeywords(positive, negative);
+        log.info("Updated keywords: positive={}, negative={}", positive, negative);
+        return ResponseEntity.ok(payload);
+    }
+}
@@ -0,0 +1,128 @@
+package com.azerite.cryptoairdropdiscovery.lifecycle;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Detects the end of an airdrop campaign from the folded text of its tweet.
+ * Relative deadlines such as "48h left" or "ends in 3 days" are counted from the time of ingest.
+ * Dates such as "ends Oct 20", "until 20 October" or "deadline: 2024-10-20" end with that day; a date
+ * without a year that lies more than half a year in the past is taken to be in the next year.
+ */
+public final class DeadlineParser {
+
+    private static final String MONTH = "(january|february|march|april|may|june|july|august|september|october"
+            + "|november|december|jan|feb|mar|apr|jun|jul|aug|sept|sep|oct|nov|dec)\\.?";
+    private static final String DAY = "(\\d{1,2})(?:st|nd|rd|th)?";
+    private static final String YEAR = "(?:,?\\s*(\\d{4}))?";
+    private static final String LEAD = "\\b(?:ends?|ending|until|till|deadline:?|closes?|closing)\\s+(?:on\\s+|by\\s+)?";
+    private static final String UNIT = "(m|mins?|minutes?|h|hrs?|hours?|d|days?|w|weeks?)";
+
+    private static final Pattern RELATIVE_LEFT = Pattern.compile(
+            "\\b(\\d{1,3})\\s*" + UNIT + "\\s+(?:left|remaining|to go)\\b");
+    private static final Pattern RELATIVE_ENDS_IN = Pattern.compile(
+            "\\b(?:ends?|ending|closes?|closing)\\s+in\\s+(\\d{1,3})\\s*" + UNIT + "\\b");
+    private static final Pattern MONTH_DAY = Pattern.compile(LEAD + MONTH + "\\s+" + DAY + YEAR + "\\b");
+    private static final Pattern DAY_MONTH = Pattern.compile(LEAD + DAY + "\\s+" + MONTH + YEAR + "\\b");
+    private static final Pattern ISO_DATE = Pattern.compile(LEAD + "(\\d{4})-(\\d{2})-(\\d{2})\\b");
+    private static final Pattern ENDED = Pattern.compile(
+            "\\b(?:has|have|had)\\s+(?:now\\s+|officially\\s+)?(?:ended|closed|finished)\\b"
+                    + "|\\bis\\s+(?:now\\s+)?over\\b|\\bno\\s+longer\\s+(?:live|active|available)\\b");
+
+    private DeadlineParser() {
+    }
+
+    /**
+     * Checks whether a tweet states that its campaign is already over.
+     *
+     * @param foldedText The folded tweet text
+     * @return true if the text announces the end of the campaign
+     */
+    public static boolean statesEnded(String foldedText) {
+        return ENDED.matcher(foldedText).find();
+    }
+
+    /**
+     * Finds the first deadline mentioned in a tweet.
+     *
+     * @param foldedText The folded tweet text
+     * @param now        The time the tweet was ingested
+     * @return The time the campaign ends, or an empty optional if no deadline is mentioned
+     */
+    public static Optional<LocalDateTime> parseDeadline(String foldedText, LocalDateTime now) {
+        Optional<LocalDateTime> relative = relative(RELATIVE_LEFT.matcher(foldedText), now)
+                .or(() -> relative(RELATIVE_ENDS_IN.matcher(foldedText), now));
+        if (relative.isPresent()) {
+            return relative;
+        }
+
+        Matcher matcher = MONTH_DAY.matcher(foldedText);
+        if (matcher.find()) {
+            return endOfDay(matcher.group(1), matcher.group(2), matcher.group(3), now);
+        }
+        matcher = DAY_MONTH.matcher(foldedText);
+        if (matcher.find()) {
+            return endOfDay(matcher.group(2), matcher.group(1), matcher.group(3), now);
+        }
+        matcher = ISO_DATE.matcher(foldedText);
+        if (matcher.find()) {
+            try {
+                return Optional.of(LocalDate.of(Integer.parseInt(matcher.group(1)),
+                        Integer.parseInt(matcher.group(2)), Integer.parseInt(matcher.group(3)))
+                        .plusDays(1).atStartOfDay());
+            } catch (DateTimeException e) {
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<LocalDateTime> relative(Matcher matcher, LocalDateTime now) {
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        long amount = Long.parseLong(matcher.group(1));
+        ChronoUnit unit = switch (matcher.group(2).charAt(0)) {
+            case 'm' -> ChronoUnit.MINUTES;
+            case 'h' -> ChronoUnit.HOURS;
+            case 'd' -> ChronoUnit.DAYS;
+            default -> ChronoUnit.WEEKS;
+        };
+        return Optional.of(now.plus(amount, unit));
+    }
+
+    private static Optional<LocalDateTime> endOfDay(String month, String day, String year, LocalDateTime now) {
+        try {
+            Month parsedMonth = monthOf(month);
+            int parsedDay = Integer.parseInt(day);
+            if (year != null) {
+                return Optional.of(LocalDate.of(Integer.parseInt(year), parsedMonth, parsedDay)
+                        .plusDays(1).atStartOfDay());
+            }
+
+            LocalDate date = LocalDate.of(now.getYear(), parsedMonth, parsedDay);
+            if (date.isBefore(now.toLocalDate().minusMonths(6))) {
+                date = date.plusYears(1);
+            }
+            return Optional.of(date.plusDays(1).atStartOfDay());
+        } catch (DateTimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Month monthOf(String name) {
+        for (Month month : Month.values()) {
+            if (name.startsWith(month.name().substring(0, 3).toLowerCase(Locale.ROOT))) {
+                return month;
+            }
+        }
+        throw new DateTimeException("Unknown month " + name);
+    }
+}
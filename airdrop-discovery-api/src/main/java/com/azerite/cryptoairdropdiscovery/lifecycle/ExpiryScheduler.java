@@ -0,0 +1,123 @@
+package com.azerite.cryptoairdropdiscovery.lifecycle;
+
+import com.azerite.cryptoairdropdiscovery.storage.AirdropTweetStore;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flips active airdrops to expired once their deadline has passed.
+ * Deadlines of newly stored airdrops are kept in a {@link TimerWheel} that is advanced once per tick on a
+ * single background thread; when a deadline is reached, every due airdrop is expired with one bulk update
+ * of the store. A periodic sweep catches deadlines scheduled before a restart or on other cluster nodes.
+ */
+@Slf4j
+public class ExpiryScheduler implements AutoCloseable {
+
+    private final boolean enabled;
+    private final AirdropTweetStore store;
+    private final Duration tick;
+    private final long reconcileMillis;
+    private final Clock clock;
+    private final TimerWheel wheel;
+
+    private volatile Runnable expiredListener = () -> {
+    };
+    private ScheduledExecutorService executor;
+    private long nextReconcile;
+
+    /**
+     * Constructor for ExpiryScheduler.
+     *
+     * @param store             The store holding the airdrops
+     * @param tick              Resolution of the wheel, and the longest an expired airdrop stays active
+     * @param wheelSize         Number of ticks in one revolution of the wheel
+     * @param reconcileInterval Interval of the sweep over all stored deadlines
+     */
+    public ExpiryScheduler(AirdropTweetStore store, Duration tick, int wheelSize, Duration reconcileInterval) {
+        this(true, store, tick, wheelSize, reconcileInterval, Clock.systemDefaultZone());
+    }
+
+    ExpiryScheduler(boolean enabled, AirdropTweetStore store, Duration tick, int wheelSize,
+                    Duration reconcileInterval, Clock clock) {
+        this.enabled = enabled;
+        this.store = store;
+        this.tick = tick;
+        this.reconcileMillis = reconcileInterval.toMillis();
+        this.clock = clock;
+        this.wheel = new TimerWheel(tick.toMillis(), wheelSize, clock.millis());
+    }
+
+    /**
+     * Creates a scheduler that never expires airdrops.
+     *
+     * @return A disabled scheduler
+     */
+    public static ExpiryScheduler disabled() {
+        return new ExpiryScheduler(false, null, Duration.ofMinutes(1), 1, Duration.ZERO, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Starts advancing the wheel on a background thread.
+     *
+     * @param expiredListener Called after airdrops have been expired
+     */
+    public synchronized void start(Runnable expiredListener) {
+        this.expiredListener = expiredListener;
+        if (!enabled || executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(
+                task -> Thread.ofPlatform().name("airdrop-expiry").daemon().unstarted(task));
+        executor.scheduleWithFixedDelay(this::tick, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Started airdrop expiry scheduler with a tick of {}", tick);
+    }
+
+    /**
+     * Schedules the deadline of a stored airdrop.
+     *
+     * @param expiresAt The deadline of the airdrop
+     */
+    public void schedule(LocalDateTime expiresAt) {
+        if (enabled) {
+            wheel.schedule(expiresAt.atZone(clock.getZone()).toInstant().toEpochMilli());
+        }
+    }
+
+    /**
+     * Advances the wheel to the current time and expires due airdrops if a deadline was reached
+     * or the periodic sweep is due.
+     */
+    void tick() {
+        try {
+            long now = clock.millis();
+            int due = wheel.advance(now);
+            if (due == 0 && now < nextReconcile) {
+                return;
+            }
+            nextReconcile = now + reconcileMillis;
+
+            int expired = store.expireDue(LocalDateTime.now(clock));
+            if (expired > 0) {
+                log.info("Expired {} airdrops", expired);
+                expiredListener.run();
+            }
+        } catch (RuntimeException e) {
+            // Keep the scheduler running, the next tick or sweep retries
+            log.error("Failed to expire airdrops", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.azerite.cryptoairdropdiscovery.lifecycle;
+
+import java.util.Arrays;
+
+/**
+ * Hashed timer wheel of deadlines. A deadline is kept in the slot of the first tick at or after it, so
+ * scheduling and advancing by one tick cost O(1) regardless of how many deadlines are pending.
+ * Deadlines further away than one revolution share slots with nearer ones and stay in place until
+ * the wheel has turned far enough. Equal deadlines, such as many tweets ending on the same day,
+ * are kept once.
+ */
+final class TimerWheel {
+
+    private final long tickMillis;
+    private final long[][] slots;
+    private final int[] sizes;
+    private long currentTick;
+    private int pending;
+
+    /**
+     * Constructor for TimerWheel.
+     *
+     * @param tickMillis Length of a tick in milliseconds
+     * @param wheelSize  Number of slots in the wheel
+     * @param nowMillis  Current time in milliseconds
+     */
+    TimerWheel(long tickMillis, int wheelSize, long nowMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick and wheel size must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.slots = new long[wheelSize][];
+        this.sizes = new int[wheelSize];
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    /**
+     * Adds a deadline. A deadline in a tick that has already passed becomes due on the next advance.
+     *
+     * @param deadlineMillis The deadline in milliseconds
+     */
+    synchronized void schedule(long deadlineMillis) {
+        long tick = Math.max(Math.ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        int slot = (int) (tick % slots.length);
+        long[] deadlines = slots[slot];
+        for (int i = 0; i < sizes[slot]; i++) {
+            if (deadlines[i] == deadlineMillis) {
+                return;
+            }
+        }
+
+        if (deadlines == null) {
+            deadlines = slots[slot] = new long[4];
+        } else if (sizes[slot] == deadlines.length) {
+            deadlines = slots[slot] = Arrays.copyOf(deadlines, deadlines.length * 2);
+        }
+        deadlines[sizes[slot]++] = deadlineMillis;
+        pending++;
+    }
+
+    /**
+     * Turns the wheel up to the given time and removes every deadline that has been reached.
+     *
+     * @param nowMillis Current time in milliseconds
+     * @return The number of deadlines reached
+     */
+    synchronized int advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        if (targetTick <= currentTick) {
+            return 0;
+        }
+
+        // After a full revolution every slot has been visited once
+        long ticks = Math.min(targetTick - currentTick, slots.length);
+        int due = 0;
+        for (long tick = targetTick - ticks + 1; tick <= targetTick; tick++) {
+            due += expire((int) (tick % slots.length), nowMillis);
+        }
+        currentTick = targetTick;
+        return due;
+    }
+
+    /**
+     * Gets the number of deadlines not reached yet.
+     *
+     * @return The number of pending deadlines
+     */
+    synchronized int pending() {
+        return pending;
+    }
+
+    private int expire(int slot, long nowMillis) {
+        long[] deadlines = slots[slot];
+        int kept = 0;
+        for (int i = 0; i < sizes[slot]; i++) {
+            if (deadlines[i] > nowMillis) {
+                deadlines[kept++] = deadlines[i];
+            }
+        }
+        int due = sizes[slot] - kept;
+        sizes[slot] = kept;
+        pending -= due;
+        return due;
+    }
+}
@@ -0,0 +1,13 @@
+package com.azerite.cryptoairdropdiscovery.model;
+
+/**
+ * Lifecycle status of an airdrop campaign.
+ */
+public enum AirdropStatus {
+    /** The campaign is running, or no end was detected. */
+    ACTIVE,
+    /** The tweet itself states that the campaign is over. */
+    ENDED,
+    /** The deadline parsed from the tweet has passed. */
+    EXPIRED
+}
@@ -1,18 +1,41 @@
 package com.azerite.cryptoairdropdiscovery.model;
 
+import com.azerite.cryptoairdropdiscovery.text.NormalizedText;
+import com.azerite.cryptoairdropdiscovery.text.TextNormalizer;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * Entity representing an airdrop tweet detected from social media.
+ * The status is indexed together with the id, the creation time and the deadline, so default reads and
+ * delta reads of active airdrops and the expiry sweep only touch the rows they need. Matched keyword profiles
+ * are kept in a side table indexed by profile, so reading one profile's airdrops is a lookup. They are loaded
+ * lazily, so reads that do not need them do not join the table. Links are unique, which also indexes the
+ * duplicate check done at ingest. Text, tasks and source are also stored folded, so filter queries match
+ * them the same way the in-memory store does.
  */
 @Entity
-@Table(name = "airdrop_tweets")
+@Table(name = "airdrop_tweets", indexes = {
+        @Index(name = "idx_airdrop_tweets_status_id", columnList = "status, id"),
+        @Index(name = "idx_airdrop_tweets_status_expires_at", columnList = "status, expires_at"),
+        @Index(name = "idx_airdrop_tweets_status_created_at", columnList = "status, created_at")
+}, uniqueConstraints = @UniqueConstraint(name = "uk_airdrop_tweets_link", columnNames = "link"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -38,13 +61,120 @@ public class AirdropTweet {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String rawText;
 
-    @Column(nullable = false)
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * Lifecycle status, active until the deadline passes.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    @ColumnDefault("'ACTIVE'")
+    @Builder.Default
+    private AirdropStatus status = AirdropStatus.ACTIVE;
+
+    /**
+     * Deadline parsed from the tweet text, if it mentions one.
+     */
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    /**
+     * Names of the keyword profiles the tweet matched at ingest. Left out of JSON when not loaded.
+     */
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "airdrop_tweet_profiles", joinColumns = @JoinColumn(name = "tweet_id"),
+            indexes = @Index(name = "idx_airdrop_tweet_profiles_profile", columnList = "profile, tweet_id"))
+    @Column(name = "profile", length = 64, nullable = false)
+    @BatchSize(size = 100)
+    @JsonInclude(value = JsonInclude.Include.CUSTOM, valueFilter = UninitializedFilter.class)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Builder.Default
+    private Set<String> profiles = new LinkedHashSet<>();
+
+    /**
+     * Folded raw text that keyword terms are matched against, derived before every write.
+     */
+    @Column(name = "folded_text", columnDefinition = "TEXT")
+    @Setter(AccessLevel.NONE)
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private String foldedText;
+
+    /**
+     * Folded tasks that task terms are matched against, derived before every write.
+     */
+    @Column(name = "folded_tasks", columnDefinition = "TEXT")
+    @Setter(AccessLevel.NONE)
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private String foldedTasks;
+
+    /**
+     * Folded source that source terms are compared with, derived before every write.
+     */
+    @Column(name = "folded_source")
+    @Setter(AccessLevel.NONE)
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private String foldedSource;
+
+    /**
+     * Normalized form of the raw text computed at ingest time, not persisted.
+     */
+    @Transient
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private NormalizedText normalizedText;
+
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) {
             createdAt = LocalDateTime.now();
         }
+        if (status == null) {
+            status = AirdropStatus.ACTIVE;
+        }
+        fold();
+    }
+
+    /**
+     * Derives the folded columns from the text, tasks and source.
+     */
+    @PreUpdate
+    public void fold() {
+        foldedText = normalizedText != null ? normalizedText.getFolded() : TextNormalizer.fold(rawText);
+        foldedTasks = tasks != null ? TextNormalizer.fold(tasks) : null;
+        foldedSource = source != null ? TextNormalizer.fold(source).trim() : null;
+    }
+
+    /**
+     * Gets the lifecycle status, treating a status that has not been set as active.
+     *
+     * @return The status of the airdrop
+     */
+    public AirdropStatus getStatus() {
+        return status != null ? status : AirdropStatus.ACTIVE;
+    }
+
+    /**
+     * Jackson value filter excluding lazy collections that have not been loaded.
+     */
+    public static class UninitializedFilter {
+
+        @Override
+        public boolean equals(Object value) {
+            return !Hibernate.isInitialized(value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
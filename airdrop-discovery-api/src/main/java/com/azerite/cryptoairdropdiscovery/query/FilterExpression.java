@@ -0,0 +1,157 @@
+package com.azerite.cryptoairdropdiscovery.query;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropStatus;
+import com.azerite.cryptoairdropdiscovery.text.TextNormalizer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Boolean filter over airdrop tweets, as parsed by {@link FilterParser}.
+ * Text values are folded with {@link com.azerite.cryptoairdropdiscovery.text.TextNormalizer#fold(String)}.
+ */
+public sealed interface FilterExpression {
+
+    /**
+     * Estimated cost of evaluating this expression against one tweet, used to order conjunctions
+     * so cheap column comparisons run before substring scans of the text.
+     *
+     * @return The relative cost
+     */
+    int cost();
+
+    /**
+     * Creates an expression matching tweets that contain at least one positive keyword and none of the
+     * negative keywords, the rule applied by the configured keyword lists.
+     *
+     * @param positiveKeywords Keywords of which at least one must be present, in any case or form
+     * @param negativeKeywords Keywords of which none may be present, in any case or form
+     * @return The expression
+     */
+    static FilterExpression keywords(Collection<String> positiveKeywords, Collection<String> negativeKeywords) {
+        FilterExpression positive = new Or(foldedKeywords(positiveKeywords));
+        List<FilterExpression> negative = foldedKeywords(negativeKeywords);
+        return negative.isEmpty() ? positive : new And(List.of(positive, new Not(new Or(negative))));
+    }
+
+    private static List<FilterExpression> foldedKeywords(Collection<String> keywords) {
+        List<FilterExpression> result = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            String folded = TextNormalizer.fold(keyword);
+            if (!folded.isEmpty()) {
+                result.add(new Keyword(folded));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Matches tweets whose raw text contains a keyword.
+     *
+     * @param keyword The folded keyword
+     */
+    record Keyword(String keyword) implements FilterExpression {
+        @Override
+        public int cost() {
+            return 4;
+        }
+    }
+
+    /**
+     * Matches tweets from a source, ignoring case.
+     *
+     * @param source The folded source name
+     */
+    record Source(String source) implements FilterExpression {
+        @Override
+        public int cost() {
+            return 1;
+        }
+    }
+
+    /**
+     * Matches tweets whose extracted tasks contain a word, e.g. retweet or mint.
+     *
+     * @param task The folded task word
+     */
+    record Task(String task) implements FilterExpression {
+        @Override
+        public int cost() {
+            return 3;
+        }
+    }
+
+    /**
+     * Matches tweets with a lifecycle status. Tweets without a stored status are active.
+     *
+     * @param status The status
+     */
+    record Status(AirdropStatus status) implements FilterExpression {
+        @Override
+        public int cost() {
+            return 1;
+        }
+    }
+
+    /**
+     * Matches tweets created at or after a time.
+     *
+     * @param time The inclusive lower bound
+     */
+    record CreatedAfter(LocalDateTime time) implements FilterExpression {
+        @Override
+        public int cost() {
+            return 1;
+        }
+    }
+
+    /**
+     * Matches tweets created before a time.
+     *
+     * @param time The exclusive upper bound
+     */
+    record CreatedBefore(LocalDateTime time) implements FilterExpression {
+        @Override
+        public int cost() {
+            return 1;
+        }
+    }
+
+    /**
+     * Matches tweets matched by all operands.
+     *
+     * @param operands The operands, ordered by cost
+     */
+    record And(List<FilterExpression> operands) implements FilterExpression {
+        @Override
+        public int cost() {
+            return operands.stream().mapToInt(FilterExpression::cost).sum();
+        }
+    }
+
+    /**
+     * Matches tweets matched by at least one operand.
+     *
+     * @param operands The operands, ordered by cost
+     */
+    record Or(List<FilterExpression> operands) implements FilterExpression {
+        @Override
+        public int cost() {
+            return operands.stream().mapToInt(FilterExpression::cost).sum();
+        }
+    }
+
+    /**
+     * Matches tweets not matched by the operand.
+     *
+     * @param operand The negated expression
+     */
+    record Not(FilterExpression operand) implements FilterExpression {
+        @Override
+        public int cost() {
+            return operand.cost();
+        }
+    }
+}
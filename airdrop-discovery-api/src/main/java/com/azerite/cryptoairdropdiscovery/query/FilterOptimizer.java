@@ -0,0 +1,86 @@
+package com.azerite.cryptoairdropdiscovery.query;
+
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.And;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.CreatedAfter;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.CreatedBefore;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Not;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Or;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rewrites filter expressions into a cheaper equivalent form.
+ * Nested conjunctions and disjunctions are flattened, duplicate operands and double negations removed,
+ * time bounds of a conjunction merged into the tightest pair, and operands ordered by cost so evaluation
+ * short-circuits on cheap comparisons first.
+ */
+final class FilterOptimizer {
+
+    private FilterOptimizer() {
+    }
+
+    /**
+     * Optimizes a filter expression.
+     *
+     * @param expression The expression to optimize
+     * @return An equivalent expression
+     */
+    static FilterExpression optimize(FilterExpression expression) {
+        return switch (expression) {
+            case And and -> combine(and.operands(), true);
+            case Or or -> combine(or.operands(), false);
+            case Not not -> {
+                FilterExpression operand = optimize(not.operand());
+                yield operand instanceof Not inner ? inner.operand() : new Not(operand);
+            }
+            default -> expression;
+        };
+    }
+
+    private static FilterExpression combine(List<FilterExpression> operands, boolean conjunction) {
+        Set<FilterExpression> flattened = new LinkedHashSet<>();
+        for (FilterExpression operand : operands) {
+            FilterExpression optimized = optimize(operand);
+            if (conjunction && optimized instanceof And and) {
+                flattened.addAll(and.operands());
+            } else if (!conjunction && optimized instanceof Or or) {
+                flattened.addAll(or.operands());
+            } else {
+                flattened.add(optimized);
+            }
+        }
+
+        List<FilterExpression> result = conjunction ? mergeTimeBounds(flattened) : new ArrayList<>(flattened);
+        result.sort(Comparator.comparingInt(FilterExpression::cost));
+        if (result.size() == 1) {
+            return result.get(0);
+        }
+        return conjunction ? new And(List.copyOf(result)) : new Or(List.copyOf(result));
+    }
+
+    private static List<FilterExpression> mergeTimeBounds(Set<FilterExpression> operands) {
+        CreatedAfter after = null;
+        CreatedBefore before = null;
+        List<FilterExpression> result = new ArrayList<>();
+        for (FilterExpression operand : operands) {
+            if (operand instanceof CreatedAfter bound) {
+                after = after == null || bound.time().isAfter(after.time()) ? bound : after;
+            } else if (operand instanceof CreatedBefore bound) {
+                before = before == null || bound.time().isBefore(before.time()) ? bound : before;
+            } else {
+                result.add(operand);
+            }
+        }
+        if (after != null) {
+            result.add(after);
+        }
+        if (before != null) {
+            result.add(before);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,303 @@
+package com.azerite.cryptoairdropdiscovery.query;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropStatus;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.And;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.CreatedAfter;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.CreatedBefore;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Keyword;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Not;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Or;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Source;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Status;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Task;
+import com.azerite.cryptoairdropdiscovery.text.TextNormalizer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Parses boolean filter queries over airdrop tweets.
+ *
+ * <pre>
+ * (mint OR claim) AND source:twitter AND NOT scam after:2024-10-01 task:retweet status:expired
+ * </pre>
+ *
+ * Bare words and quoted phrases match the tweet text. {@code source:}, {@code task:}, {@code status:},
+ * {@code after:} and {@code before:} match the source, the extracted tasks, the lifecycle status and the
+ * creation time; times are ISO-8601 dates or date-times, {@code after:} is inclusive and {@code before:} exclusive. AND, OR and NOT are case-insensitive,
+ * adjacent terms are combined with AND, and AND binds tighter than OR.
+ * Queries exceeding the configured length, number of terms or nesting depth are rejected before they reach
+ * the store, and the parsed expression is optimized with {@link FilterOptimizer}.
+ */
+public class FilterParser {
+
+    private static final int MIN_TEXT_LENGTH = 2;
+    private static final Set<String> FIELDS = Set.of("source", "task", "status", "after", "before");
+
+    private final int maxLength;
+    private final int maxTerms;
+    private final int maxDepth;
+
+    /**
+     * Constructor for FilterParser.
+     *
+     * @param maxLength Maximum length of a query in characters
+     * @param maxTerms  Maximum number of terms in a query
+     * @param maxDepth  Maximum nesting depth of parentheses and NOT operators
+     */
+    public FilterParser(int maxLength, int maxTerms, int maxDepth) {
+        this.maxLength = maxLength;
+        this.maxTerms = maxTerms;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Parses and optimizes a filter query.
+     *
+     * @param query The filter query
+     * @return The optimized filter expression
+     * @throws IllegalArgumentException if the query is malformed or exceeds a limit
+     */
+    public FilterExpression parse(String query) {
+        return parse(query, null);
+    }
+
+    /**
+     * Parses and optimizes a filter query, restricting it to tweets with a default status unless the
+     * query contains a {@code status:} term of its own.
+     *
+     * @param query         The filter query
+     * @param defaultStatus The status to restrict the query to, or null for tweets of any status
+     * @return The optimized filter expression
+     * @throws IllegalArgumentException if the query is malformed or exceeds a limit
+     */
+    public FilterExpression parse(String query, AirdropStatus defaultStatus) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Filter query must not be empty");
+        }
+        if (query.length() > maxLength) {
+            throw new IllegalArgumentException("Filter query is longer than " + maxLength + " characters");
+        }
+
+        Parser parser = new Parser(tokenize(query));
+        FilterExpression expression = parser.parseOr(0);
+        if (parser.position < parser.tokens.size()) {
+            throw new IllegalArgumentException("Unexpected '" + parser.tokens.get(parser.position).text() + "'");
+        }
+        if (defaultStatus != null && !parser.statusSeen) {
+            expression = new And(List.of(new Status(defaultStatus), expression));
+        }
+        return FilterOptimizer.optimize(expression);
+    }
+
+    private static List<Token> tokenize(String query) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(new Token(c == '(' ? TokenType.OPEN : TokenType.CLOSE, null, String.valueOf(c)));
+                i++;
+            } else if (c == '"') {
+                int end = closingQuote(query, i);
+                tokens.add(new Token(TokenType.TERM, null, query.substring(i + 1, end)));
+                i = end + 1;
+            } else {
+                int start = i;
+                while (i < query.length() && !Character.isWhitespace(query.charAt(i))
+                        && "()\"".indexOf(query.charAt(i)) < 0) {
+                    i++;
+                }
+                String word = query.substring(start, i);
+                String field = word.endsWith(":") ? word.substring(0, word.length() - 1).toLowerCase(Locale.ROOT) : null;
+
+                if (field != null && FIELDS.contains(field) && i < query.length() && query.charAt(i) == '"') {
+                    // Quoted field value, e.g. source:"Crypto Twitter"
+                    int end = closingQuote(query, i);
+                    tokens.add(new Token(TokenType.TERM, field, query.substring(i + 1, end)));
+                    i = end + 1;
+                } else {
+                    tokens.add(word(word));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static Token word(String word) {
+        switch (word.toUpperCase(Locale.ROOT)) {
+            case "AND":
+                return new Token(TokenType.AND, null, word);
+            case "OR":
+                return new Token(TokenType.OR, null, word);
+            case "NOT":
+                return new Token(TokenType.NOT, null, word);
+            default:
+                int separator = word.indexOf(':');
+                if (separator > 0) {
+                    String field = word.substring(0, separator).toLowerCase(Locale.ROOT);
+                    if (FIELDS.contains(field)) {
+                        return new Token(TokenType.TERM, field, word.substring(separator + 1));
+                    }
+                }
+                return new Token(TokenType.TERM, null, word);
+        }
+    }
+
+    private static int closingQuote(String query, int openingQuote) {
+        int end = query.indexOf('"', openingQuote + 1);
+        if (end < 0) {
+            throw new IllegalArgumentException("Unterminated quote in filter query");
+        }
+        return end;
+    }
+
+    private static LocalDateTime parseTime(String value) {
+        try {
+            if (value.length() == 10) {
+                return LocalDate.parse(value).atStartOfDay();
+            }
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            try {
+                // Times with an offset are converted to the server time zone
+                return OffsetDateTime.parse(value).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            } catch (DateTimeParseException ignored) {
+                throw new IllegalArgumentException("Invalid date in filter query, expected ISO-8601: " + value);
+            }
+        }
+    }
+
+    private enum TokenType {
+        TERM, AND, OR, NOT, OPEN, CLOSE
+    }
+
+    private record Token(TokenType type, String field, String text) {
+    }
+
+    /**
+     * Recursive descent parser over the tokens of one query.
+     */
+    private class Parser {
+
+        private final List<Token> tokens;
+        private int position;
+        private int terms;
+        private boolean statusSeen;
+
+        Parser(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        FilterExpression parseOr(int depth) {
+            List<FilterExpression> operands = new ArrayList<>();
+            operands.add(parseAnd(depth));
+            while (peek(TokenType.OR)) {
+                position++;
+                operands.add(parseAnd(depth));
+            }
+            return operands.size() == 1 ? operands.get(0) : new Or(operands);
+        }
+
+        FilterExpression parseAnd(int depth) {
+            List<FilterExpression> operands = new ArrayList<>();
+            operands.add(parseNot(depth));
+            while (position < tokens.size() && !peek(TokenType.OR) && !peek(TokenType.CLOSE)) {
+                if (peek(TokenType.AND)) {
+                    position++;
+                }
+                operands.add(parseNot(depth));
+            }
+            return operands.size() == 1 ? operands.get(0) : new And(operands);
+        }
+
+        FilterExpression parseNot(int depth) {
+            if (peek(TokenType.NOT)) {
+                position++;
+                return new Not(parseNot(nested(depth)));
+            }
+            return parsePrimary(depth);
+        }
+
+        FilterExpression parsePrimary(int depth) {
+            if (position >= tokens.size()) {
+                throw new IllegalArgumentException("Unexpected end of filter query");
+            }
+
+            Token token = tokens.get(position++);
+            switch (token.type()) {
+                case OPEN -> {
+                    FilterExpression expression = parseOr(nested(depth));
+                    if (!peek(TokenType.CLOSE)) {
+                        throw new IllegalArgumentException("Missing closing parenthesis in filter query");
+                    }
+                    position++;
+                    return expression;
+                }
+                case TERM -> {
+                    if (++terms > maxTerms) {
+                        throw new IllegalArgumentException("Filter query has more than " + maxTerms + " terms");
+                    }
+                    return term(token);
+                }
+                default -> throw new IllegalArgumentException("Unexpected '" + token.text() + "' in filter query");
+            }
+        }
+
+        private FilterExpression term(Token token) {
+            if (token.field() == null) {
+                return new Keyword(foldedText(token.text()));
+            }
+            if (token.text().isBlank()) {
+                throw new IllegalArgumentException("Missing value for " + token.field() + ": in filter query");
+            }
+            return switch (token.field()) {
+                case "source" -> new Source(TextNormalizer.fold(token.text()).trim());
+                case "task" -> new Task(foldedText(token.text()));
+                case "status" -> status(token.text());
+                case "after" -> new CreatedAfter(parseTime(token.text()));
+                case "before" -> new CreatedBefore(parseTime(token.text()));
+                default -> throw new IllegalStateException("Unknown field " + token.field());
+            };
+        }
+
+        private Status status(String value) {
+            statusSeen = true;
+            try {
+                return new Status(AirdropStatus.valueOf(value.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown status '" + value + "' in filter query, expected one of "
+                        + List.of(AirdropStatus.values()).toString().toLowerCase(Locale.ROOT));
+            }
+        }
+
+        private String foldedText(String text) {
+            String folded = TextNormalizer.fold(text).trim();
+            if (folded.length() < MIN_TEXT_LENGTH) {
+                throw new IllegalArgumentException("Filter term '" + text + "' is shorter than "
+                        + MIN_TEXT_LENGTH + " characters");
+            }
+            return folded;
+        }
+
+        private int nested(int depth) {
+            if (depth + 1 > maxDepth) {
+                throw new IllegalArgumentException("Filter query is nested deeper than " + maxDepth + " levels");
+            }
+            return depth + 1;
+        }
+
+        private boolean peek(TokenType type) {
+            return position < tokens.size() && tokens.get(position).type() == type;
+        }
+    }
+}
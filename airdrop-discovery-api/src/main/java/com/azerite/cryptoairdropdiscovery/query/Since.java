@@ -0,0 +1,69 @@
+package com.azerite.cryptoairdropdiscovery.query;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Lower bound of a delta query, either the last identifier or the last creation time a client has seen.
+ * Stores apply the bound in their queries, so a delta only reads the tweets it returns.
+ *
+ * @param afterId   Only tweets with a greater identifier are included, or null
+ * @param afterTime Only tweets created after this time are included, or null
+ */
+public record Since(Long afterId, LocalDateTime afterTime) {
+
+    /**
+     * Bound including every tweet.
+     */
+    public static final Since ALL = new Since(null, null);
+
+    /**
+     * Parses a since parameter. Digits are read as a tweet identifier, anything else as an ISO-8601
+     * timestamp with or without offset; timestamps without offset are in the server time zone.
+     *
+     * @param value The parameter value, may be null or blank
+     * @return The parsed bound, {@link #ALL} if no value is given
+     * @throws IllegalArgumentException if the value is neither an identifier nor a timestamp
+     */
+    public static Since parse(String value) {
+        if (value == null || value.isBlank()) {
+            return ALL;
+        }
+
+        String trimmed = value.trim();
+        if (trimmed.chars().allMatch(Character::isDigit)) {
+            try {
+                return new Since(Long.parseLong(trimmed), null);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid since identifier: " + value, e);
+            }
+        }
+
+        try {
+            return new Since(null, LocalDateTime.ofInstant(Instant.parse(trimmed), ZoneId.systemDefault()));
+        } catch (DateTimeParseException e) {
+            try {
+                return new Since(null, LocalDateTime.parse(trimmed));
+            } catch (DateTimeParseException ignored) {
+                throw new IllegalArgumentException("Invalid since value, expected an id or ISO-8601 timestamp: " + value);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a tweet is newer than this bound.
+     *
+     * @param airdropTweet The tweet to check
+     * @return true if the tweet should be included in the delta
+     */
+    public boolean includes(AirdropTweet airdropTweet) {
+        if (afterId != null && (airdropTweet.getId() == null || airdropTweet.getId() <= afterId)) {
+            return false;
+        }
+        return afterTime == null || (airdropTweet.getCreatedAt() != null && airdropTweet.getCreatedAt().isAfter(afterTime));
+    }
+}
@@ -0,0 +1,113 @@
+package com.azerite.cryptoairdropdiscovery.reactive;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import com.azerite.cryptoairdropdiscovery.service.AirdropDiscoveryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * Reactive REST controller exposing the read side of airdrop discovery.
+ * Blocking storage calls are moved off the request thread, and results are read from the store
+ * page by page with a keyset cursor as the client requests them, so many concurrent queries can be
+ * served by a few threads without holding whole results in memory.
+ * Request {@code application/x-ndjson} to receive results one tweet per line.
+ */
+@RestController
+@RequestMapping("/airdrops/reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveAirdropController {
+
+    static final int PAGE_SIZE = 100;
+
+    private final AirdropDiscoveryService airdropDiscoveryService;
+    private final Scheduler scheduler = Schedulers.boundedElastic();
+
+    /**
+     * Endpoint to stream filtered airdrop tweets based on configured keywords.
+     *
+     * @return A stream of AirdropTweet objects that match the filter criteria
+     */
+    @GetMapping(value = "/filtered", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<AirdropTweet> getFilteredAirdrops() {
+        return pages(airdropDiscoveryService::getFilteredAirdropsPage);
+    }
+
+    /**
+     * Endpoint to stream airdrop tweets matching a keyword.
+     *
+     * @param keyword The keyword to search for
+     * @return A stream of matching airdrop tweets, or an error if the keyword is blank
+     */
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<AirdropTweet> searchAirdrops(@RequestParam String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return Flux.error(new IllegalArgumentException("Keyword is required"));
+        }
+
+        return pages((afterId, limit) -> airdropDiscoveryService.searchByKeywordPage(keyword, afterId, limit));
+    }
+
+    /**
+     * Endpoint to look up a single airdrop tweet.
+     *
+     * @param id The identifier of the tweet
+     * @return The airdrop tweet or a 404 Not Found if it does not exist
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<AirdropTweet>> getAirdrop(@PathVariable Long id) {
+        return Mono.fromCallable(() -> airdropDiscoveryService.findById(id))
+                .subscribeOn(scheduler)
+                .map(airdropTweet -> airdropTweet.map(ResponseEntity::ok)
+                        .orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+
+    /**
+     * Streams a result page by page. The next page continues after the last identifier of the previous one
+     * and is only loaded once the client has started consuming the previous page.
+     *
+     * @param loader Loads a page of the result
+     * @return A stream of the tweets of all pages
+     */
+    private Flux<AirdropTweet> pages(PageLoader loader) {
+        return page(loader, 0)
+                .expand(page -> page.size() < PAGE_SIZE
+                        ? Mono.empty()
+                        : page(loader, page.get(page.size() - 1).getId()))
+                .concatMapIterable(page -> page, 1);
+    }
+
+    private Mono<List<AirdropTweet>> page(PageLoader loader, long afterId) {
+        return Mono.fromCallable(() -> loader.load(afterId, PAGE_SIZE))
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * Maps invalid request arguments to a 400 Bad Request.
+     *
+     * @param e The exception raised by a handler method
+     * @return A 400 Bad Request response with the error message
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException e) {
+        log.warn("Invalid reactive airdrop request: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    /**
+     * Loads one page of a result in identifier order.
+     */
+    @FunctionalInterface
+    private interface PageLoader {
+        List<AirdropTweet> load(long afterId, int limit);
+    }
+}
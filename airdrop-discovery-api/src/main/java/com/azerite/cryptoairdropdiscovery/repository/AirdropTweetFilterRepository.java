@@ -0,0 +1,51 @@
+package com.azerite.cryptoairdropdiscovery.repository;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression;
+import com.azerite.cryptoairdropdiscovery.query.Since;
+
+import java.util.List;
+
+/**
+ * Repository fragment running boolean filter expressions and delta bounds as a single query.
+ */
+public interface AirdropTweetFilterRepository {
+
+    /**
+     * Finds the newest airdrop tweets matching a filter expression.
+     *
+     * @param filter The filter expression
+     * @param since  Only tweets newer than this bound are returned
+     * @param limit  Maximum number of tweets to return
+     * @return Up to limit matching tweets, newest first
+     */
+    List<AirdropTweet> findByFilter(FilterExpression filter, Since since, int limit);
+
+    /**
+     * Finds all airdrop tweets matching a filter expression, in identifier order.
+     *
+     * @param filter The filter expression
+     * @param since  Only tweets newer than this bound are returned
+     * @return The matching tweets, oldest first
+     */
+    List<AirdropTweet> findAllByFilter(FilterExpression filter, Since since);
+
+    /**
+     * Finds all active airdrop tweets that matched a keyword profile, through the profile index.
+     *
+     * @param profile The name of the profile
+     * @param since   Only tweets newer than this bound are returned
+     * @return The profile's tweets, oldest first
+     */
+    List<AirdropTweet> findByProfile(String profile, Since since);
+
+    /**
+     * Finds the next page of airdrop tweets matching a filter expression, in identifier order.
+     *
+     * @param filter  The filter expression
+     * @param afterId Only tweets with a greater identifier are returned
+     * @param limit   Maximum number of tweets to return
+     * @return Up to limit matching tweets, oldest first
+     */
+    List<AirdropTweet> findByFilterAfter(FilterExpression filter, long afterId, int limit);
+}
@@ -0,0 +1,145 @@
+package com.azerite.cryptoairdropdiscovery.repository;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropStatus;
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.And;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.CreatedAfter;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.CreatedBefore;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Keyword;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Not;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Or;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Source;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Status;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Task;
+import com.azerite.cryptoairdropdiscovery.query.Since;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Translates filter expressions into one criteria query with a row limit.
+ * Text terms become LIKE conditions on the folded columns, which hold text folded the same way
+ * as the terms, so the database evaluates the whole expression in a single scan and stops after the newest matching rows. Pages in identifier
+ * order continue after the last identifier seen, and delta bounds restrict the identifier or
+ * creation time, so both are served by indexes instead of being filtered after the query.
+ * Profile reads fetch the tweets' profiles with them, which the other reads leave unloaded.
+ */
+class AirdropTweetFilterRepositoryImpl implements AirdropTweetFilterRepository {
+
+    private static final char ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<AirdropTweet> findByFilter(FilterExpression filter, Since since, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AirdropTweet> query = cb.createQuery(AirdropTweet.class);
+        Root<AirdropTweet> root = query.from(AirdropTweet.class);
+        query.select(root)
+                .where(bounded(predicate(filter, root, cb), since, root, cb))
+                .orderBy(cb.desc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<AirdropTweet> findAllByFilter(FilterExpression filter, Since since) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AirdropTweet> query = cb.createQuery(AirdropTweet.class);
+        Root<AirdropTweet> root = query.from(AirdropTweet.class);
+        query.select(root)
+                .where(bounded(predicate(filter, root, cb), since, root, cb))
+                .orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<AirdropTweet> findByProfile(String profile, Since since) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AirdropTweet> query = cb.createQuery(AirdropTweet.class);
+        Root<AirdropTweet> root = query.from(AirdropTweet.class);
+        Join<AirdropTweet, String> profiles = root.join("profiles");
+        // Profiles are lazy; fetch them here through a second join, the filtered one only holds the matched profile.
+        // Hibernate returns each tweet once although the fetch repeats its row per profile.
+        root.fetch("profiles", JoinType.LEFT);
+        Predicate predicate = cb.and(cb.equal(profiles, profile),
+                predicate(new Status(AirdropStatus.ACTIVE), root, cb));
+        query.select(root)
+                .where(bounded(predicate, since, root, cb))
+                .orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<AirdropTweet> findByFilterAfter(FilterExpression filter, long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AirdropTweet> query = cb.createQuery(AirdropTweet.class);
+        Root<AirdropTweet> root = query.from(AirdropTweet.class);
+        query.select(root)
+                .where(cb.greaterThan(root.get("id"), afterId), predicate(filter, root, cb))
+                .orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Adds the conditions of a delta bound to a predicate. Identifiers and creation times are indexed
+     * together with the status, so a delta query only reads the rows it returns.
+     */
+    private static Predicate[] bounded(Predicate predicate, Since since, Root<AirdropTweet> root,
+                                       CriteriaBuilder cb) {
+        List<Predicate> predicates = new ArrayList<>(3);
+        predicates.add(predicate);
+        if (since.afterId() != null) {
+            predicates.add(cb.greaterThan(root.get("id"), since.afterId()));
+        }
+        if (since.afterTime() != null) {
+            predicates.add(cb.greaterThan(root.get("createdAt"), since.afterTime()));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    private static Predicate predicate(FilterExpression filter, Root<AirdropTweet> root, CriteriaBuilder cb) {
+        return switch (filter) {
+            case Keyword keyword -> contains(cb, root.get("foldedText"), keyword.keyword());
+            case Source source -> cb.equal(root.get("foldedSource"), source.source());
+            // Tweets without tasks must match NOT task:x, so compare against an empty string instead of null
+            case Task task -> contains(cb, cb.coalesce(root.<String>get("foldedTasks"), ""), task.task());
+            case Status status -> cb.equal(root.get("status"), status.status());
+            case CreatedAfter after -> cb.greaterThanOrEqualTo(root.get("createdAt"), after.time());
+            case CreatedBefore before -> cb.lessThan(root.get("createdAt"), before.time());
+            case And and -> cb.and(and.operands().stream()
+                    .map(operand -> predicate(operand, root, cb))
+                    .toArray(Predicate[]::new));
+            case Or or -> cb.or(or.operands().stream()
+                    .map(operand -> predicate(operand, root, cb))
+                    .toArray(Predicate[]::new));
+            case Not not -> cb.not(predicate(not.operand(), root, cb));
+        };
+    }
+
+    private static Predicate contains(CriteriaBuilder cb, Expression<String> column, String value) {
+        String escaped = value
+                .replace(String.valueOf(ESCAPE), ESCAPE + String.valueOf(ESCAPE))
+                .replace("%", ESCAPE + "%")
+                .replace("_", ESCAPE + "_");
+        return cb.like(column, "%" + escaped + "%", ESCAPE);
+    }
+}
@@ -1,67 +1,76 @@
 package com.azerite.cryptoairdropdiscovery.repository;
 
 import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Repository for AirdropTweet entities.
+ * Keyword, profile and filter queries are built by {@link AirdropTweetFilterRepository} and only return active
+ * airdrops unless asked otherwise.
  */
 @Repository
-public interface AirdropTweetRepository extends JpaRepository<AirdropTweet, Long> {
+public interface AirdropTweetRepository extends JpaRepository<AirdropTweet, Long>, AirdropTweetFilterRepository {
 
     /**
-     * Finds all airdrop tweets with a specific keyword in their text.
+     * Condition matching active airdrops, usable with the status index.
+     */
+    String ACTIVE_CONDITION =
+            "a.status = com.azerite.cryptoairdropdiscovery.model.AirdropStatus.ACTIVE";
+
+    /**
+     * Checks whether an airdrop tweet with the given link exists.
+     *
+     * @param link The link to the original tweet
+     * @return true if a tweet with this link exists
+     */
+    boolean existsByLink(String link);
+
+    /**
+     * Finds which of the given links belong to a stored airdrop tweet.
+     *
+     * @param links The links to look up
+     * @return The stored links among them
+     */
+    @Query("SELECT a.link FROM AirdropTweet a WHERE a.link IN :links")
+    Set<String> findExistingLinks(@Param("links") Collection<String> links);
+
+    /**
+     * Finds airdrop tweets with an identifier greater than the given one, in identifier order.
      *
-     * @param keyword The keyword to search for
-     * @return A list of matching airdrop tweets
+     * @param afterId  The identifier to continue after
+     * @param pageable The page size
+     * @return The next page of airdrop tweets
      */
-    @Query("SELECT a FROM AirdropTweet a WHERE LOWER(a.rawText) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<AirdropTweet> findByKeyword(@Param("keyword") String keyword);
+    List<AirdropTweet> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
 
     /**
-     * Finds all airdrop tweets that contain any positive keyword and no negative keywords.
-     * This is a database-agnostic implementation that works with any JPA provider.
+     * Finds airdrop tweets stored before the folded columns existed, in identifier order.
      *
-     * @param positiveKeyword  A positive keyword to match
-     * @param negativeKeywords List of negative keywords to exclude
-     * @return A list of filtered airdrop tweets containing the positive keyword
+     * @param pageable The page size
+     * @return The next page of airdrop tweets without folded columns
      */
-    @Query("SELECT a FROM AirdropTweet a WHERE " +
-            "LOWER(a.rawText) LIKE LOWER(CONCAT('%', :positiveKeyword, '%')) AND " +
-            "(:negativeKeywords IS NULL OR (" +
-            "   NOT LOWER(a.rawText) LIKE LOWER(CONCAT('%', :negativeKeyword1, '%')) AND " +
-            "   NOT LOWER(a.rawText) LIKE LOWER(CONCAT('%', :negativeKeyword2, '%')) AND " +
-            "   NOT LOWER(a.rawText) LIKE LOWER(CONCAT('%', :negativeKeyword3, '%')) AND " +
-            "   NOT LOWER(a.rawText) LIKE LOWER(CONCAT('%', :negativeKeyword4, '%')) AND " +
-            "   NOT LOWER(a.rawText) LIKE LOWER(CONCAT('%', :negativeKeyword5, '%'))" +
-            "))")
-    List<AirdropTweet> findTweetsByKeywordFiltered(
-            @Param("positiveKeyword") String positiveKeyword,
-            @Param("negativeKeywords") List<String> negativeKeywords,
-            @Param("negativeKeyword1") String negativeKeyword1,
-            @Param("negativeKeyword2") String negativeKeyword2,
-            @Param("negativeKeyword3") String negativeKeyword3,
-            @Param("negativeKeyword4") String negativeKeyword4,
-            @Param("negativeKeyword5") String negativeKeyword5);
+    List<AirdropTweet> findByFoldedTextIsNullOrderByIdAsc(Pageable pageable);
 
     /**
-     * Legacy method for backward compatibility.
-     * This will be used if no configuration properties are provided.
+     * Marks every active airdrop tweet whose deadline has passed as expired.
      *
-     * @return A list of airdrop tweets that contain tasks
+     * @param now The current time
+     * @return The number of expired tweets
      */
-    @Query("SELECT a FROM AirdropTweet a WHERE " +
-            "(LOWER(a.rawText) LIKE '%follow%' OR " +
-            "LOWER(a.rawText) LIKE '%mint%' OR " +
-            "LOWER(a.rawText) LIKE '%galxe%' OR " +
-            "LOWER(a.rawText) LIKE '%zk%' OR " +
-            "LOWER(a.rawText) LIKE '%claim%') AND " +
-            "LOWER(a.rawText) NOT LIKE '%scam%' AND " +
-            "LOWER(a.rawText) NOT LIKE '%ended%'")
-    List<AirdropTweet> findFilteredAirdrops();
-} 
\ No newline at end of file
+    @Transactional
+    @Modifying
+    @Query("UPDATE AirdropTweet a SET a.status = com.azerite.cryptoairdropdiscovery.model.AirdropStatus.EXPIRED " +
+            "WHERE " + ACTIVE_CONDITION + " AND a.expiresAt <= :now")
+    int expireDue(@Param("now") LocalDateTime now);
+}
@@ -1,14 +1,37 @@
 package com.azerite.cryptoairdropdiscovery.service;
 
+import com.azerite.cryptoairdropdiscovery.cluster.ClusterCoordinator;
+import com.azerite.cryptoairdropdiscovery.cluster.ClusterEvent;
 import com.azerite.cryptoairdropdiscovery.config.AirdropDiscoveryProperties;
+import com.azerite.cryptoairdropdiscovery.lifecycle.DeadlineParser;
+import com.azerite.cryptoairdropdiscovery.lifecycle.ExpiryScheduler;
+import com.azerite.cryptoairdropdiscovery.model.AirdropStatus;
 import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
-import com.azerite.cryptoairdropdiscovery.repository.AirdropTweetRepository;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression;
+import com.azerite.cryptoairdropdiscovery.query.FilterParser;
+import com.azerite.cryptoairdropdiscovery.query.Since;
+import com.azerite.cryptoairdropdiscovery.storage.AirdropTweetStore;
+import com.azerite.cryptoairdropdiscovery.text.NormalizedText;
+import com.azerite.cryptoairdropdiscovery.text.ProfileMatcher;
+import com.azerite.cryptoairdropdiscovery.text.TextNormalizer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -19,18 +42,53 @@ import java.util.regex.Pattern;
 @Slf4j
 public class AirdropDiscoveryService {
 
-    private final AirdropTweetRepository repository;
+    private static final int MAX_PROFILE_NAME_LENGTH = 64;
+    private static final Pattern TASK_PATTERN = Pattern.compile("(?m)^\\s*(?:[0-9]+\\.|[•\\-*])\\s*(.+)$");
+    private static final KeywordLists BUILT_IN_KEYWORDS = new KeywordLists(
+            AirdropDiscoveryProperties.Keywords.DEFAULT_POSITIVE, AirdropDiscoveryProperties.Keywords.DEFAULT_NEGATIVE);
+
+    private final AirdropTweetStore store;
     private final AirdropDiscoveryProperties properties;
+    private final WebhookNotifier webhookNotifier;
+    private final ClusterCoordinator clusterCoordinator;
+    private final ExpiryScheduler expiryScheduler;
+    private final QueryResultCache<List<AirdropTweet>> filteredCache;
+    private final FilterParser filterParser;
+    private final Clock clock = Clock.systemDefaultZone();
+    // Starts below any version a change made from now on can get, so a node that joins adopts the next remote version
+    private final AtomicLong dataVersion = new AtomicLong(clock.millis() - 1);
+    // Replaced as a whole on keyword updates, so readers never see new positive and old negative keywords
+    private volatile KeywordLists keywords;
+    private volatile CompiledKeywords compiledKeywords;
 
     /**
      * Constructor for AirdropDiscoveryService.
      *
-     * @param repository Repository for accessing tweet data
-     * @param properties Configuration properties
+     * @param store              Store for accessing tweet data
+     * @param properties         Configuration properties
+     * @param webhookNotifier    Notifier for newly detected airdrops
+     * @param clusterCoordinator Coordinator for the other nodes of the cluster
+     * @param expiryScheduler    Scheduler expiring airdrops once their deadline has passed
      */
-    public AirdropDiscoveryService(AirdropTweetRepository repository, AirdropDiscoveryProperties properties) {
-        this.repository = repository;
+    public AirdropDiscoveryService(AirdropTweetStore store, AirdropDiscoveryProperties properties,
+                                   WebhookNotifier webhookNotifier, ClusterCoordinator clusterCoordinator,
+                                   ExpiryScheduler expiryScheduler) {
+        this.store = store;
         this.properties = properties;
+        this.webhookNotifier = webhookNotifier;
+        this.clusterCoordinator = clusterCoordinator;
+        this.expiryScheduler = expiryScheduler;
+        this.keywords = new KeywordLists(List.copyOf(properties.getKeywords().getPositive()),
+                List.copyOf(properties.getKeywords().getNegative()));
+        this.filteredCache = new QueryResultCache<>(properties.getCache().getFilteredResultsTtl(), clock);
+        AirdropDiscoveryProperties.Query query = properties.getQuery();
+        this.filterParser = new FilterParser(query.getMaxLength(), query.getMaxTerms(), query.getMaxDepth());
+        for (String profile : properties.getProfiles().keySet()) {
+            if (profile.isBlank() || profile.length() > MAX_PROFILE_NAME_LENGTH) {
+                throw new IllegalStateException("Keyword profile names must have 1 to " + MAX_PROFILE_NAME_LENGTH
+                        + " characters: " + profile);
+            }
+        }
     }
 
     /**
@@ -48,24 +106,31 @@ public class AirdropDiscoveryService {
             return null;
         }
 
-        // Get keywords from properties
-        List<String> airdropKeywords = properties.getKeywords().getPositive();
-        List<String> exclusionKeywords = properties.getKeywords().getNegative();
+        // In cluster mode each link is ingested by the node owning it
+        if (clusterCoordinator.isEnabled() && !clusterCoordinator.isOwner(link)) {
+            log.debug("Forwarding tweet {} to cluster node {}", link, clusterCoordinator.ownerOf(link));
+            return clusterCoordinator.forwardIngest(tweetText, source, link);
+        }
+
+        // Normalize the text once for matching, extraction and indexing
+        NormalizedText normalizedText = TextNormalizer.normalize(tweetText);
+        CompiledKeywords keywords = compiledKeywords();
 
-        // Check if the tweet contains any airdrop keywords
-        boolean containsAirdropKeyword = airdropKeywords.stream()
-                .anyMatch(keyword -> tweetText.toLowerCase().contains(keyword.toLowerCase()));
+        // Evaluate the default keywords and every profile in one scan of the text;
+        // position 0 holds the default keywords, the named profiles follow in order
+        BitSet matched = keywords.matcher().match(normalizedText);
 
-        // Check if the tweet contains any exclusion keywords
-        boolean containsExclusionKeyword = exclusionKeywords.stream()
-                .anyMatch(keyword -> tweetText.toLowerCase().contains(keyword.toLowerCase()));
+        if (!matched.isEmpty()) {
+            if (isDuplicate(link)) {
+                log.info("Skipping duplicate airdrop tweet: {}", link);
+                return null;
+            }
 
-        if (containsAirdropKeyword && !containsExclusionKeyword) {
             // Extract a title from the tweet (first non-empty line or first 50 chars)
             String title = extractTitle(tweetText);
 
             // Extract tasks from the tweet
-            String tasks = extractTasks(tweetText);
+            String tasks = extractTasks(tweetText, normalizedText, keywords);
 
             // Create and save the airdrop tweet
             AirdropTweet airdropTweet = AirdropTweet.builder()
@@ -74,17 +139,27 @@ public class AirdropDiscoveryService {
                     .link(link)
                     .tasks(tasks)
                     .rawText(tweetText)
+                    .normalizedText(normalizedText)
+                    .profiles(profileNames(matched, keywords))
                     .build();
+            applyLifecycle(airdropTweet, normalizedText);
 
             log.info("Saving airdrop tweet: {}", title);
-
-            // Send webhook notification if enabled
-            if (properties.getIntegration().isWebhookEnabled() &&
-                    properties.getIntegration().getWebhookUrl() != null) {
-                sendWebhookNotification(airdropTweet);
+            AirdropTweet saved = store.save(airdropTweet);
+            if (saved.getExpiresAt() != null && saved.getStatus() == AirdropStatus.ACTIVE) {
+                expiryScheduler.schedule(saved.getExpiresAt());
             }
 
-            return repository.save(airdropTweet);
+            // Readers on this and other nodes, and webhook receivers, only see the tweet once it is committed
+            afterCommit(() -> {
+                clusterCoordinator.markSeen(link);
+                dataChangedLocally();
+
+                // Send webhook notification if enabled
+                webhookNotifier.notifyNewAirdrop(saved);
+            });
+
+            return saved;
         }
 
         log.debug("Tweet does not appear to be about an airdrop with tasks, skipping");
@@ -92,55 +167,433 @@ public class AirdropDiscoveryService {
     }
 
     /**
-     * Gets all airdrop tweets that match the filter criteria.
+     * Gets all active airdrop tweets that match the filter criteria.
      *
      * @return A list of filtered airdrop tweets
      */
     @Transactional(readOnly = true)
     public List<AirdropTweet> getFilteredAirdrops() {
-        List<String> positiveKeywords = properties.getKeywords().getPositive();
-        List<String> negativeKeywords = properties.getKeywords().getNegative();
+        return getFilteredAirdrops(Since.ALL);
+    }
 
-        if (positiveKeywords.isEmpty()) {
-            return repository.findFilteredAirdrops();
+    /**
+     * Gets the active airdrop tweets newer than a bound that match the filter criteria.
+     * The bound is applied by the store; only the full result is cached.
+     *
+     * @param since Only tweets newer than this bound are returned
+     * @return A list of filtered airdrop tweets in identifier order
+     */
+    @Transactional(readOnly = true)
+    public List<AirdropTweet> getFilteredAirdrops(Since since) {
+        if (!since.equals(Since.ALL)) {
+            return findFiltered(since);
         }
+        return filteredCache.get(() -> findFiltered(Since.ALL));
+    }
 
-        // Collect results for each positive keyword
-        List<AirdropTweet> results = new ArrayList<>();
+    /**
+     * Gets the next page of active airdrop tweets that match the filter criteria, in identifier order.
+     * Used to stream large results with a keyset cursor instead of loading them at once.
+     *
+     * @param afterId Only tweets with a greater identifier are returned; 0 starts at the beginning
+     * @param limit   Maximum number of tweets to return
+     * @return Up to limit filtered airdrop tweets
+     */
+    @Transactional(readOnly = true)
+    public List<AirdropTweet> getFilteredAirdropsPage(long afterId, int limit) {
+        KeywordLists keywords = readKeywords();
+        FilterExpression filter = new FilterExpression.And(List.of(new FilterExpression.Status(AirdropStatus.ACTIVE),
+                FilterExpression.keywords(keywords.positive(), keywords.negative())));
+        return store.findMatchingAfter(filter, afterId, limit);
+    }
 
-        for (String positiveKeyword : positiveKeywords) {
-            // Prepare negative keywords (up to 5)
-            String neg1 = negativeKeywords.size() > 0 ? negativeKeywords.get(0) : "";
-            String neg2 = negativeKeywords.size() > 1 ? negativeKeywords.get(1) : "";
-            String neg3 = negativeKeywords.size() > 2 ? negativeKeywords.get(2) : "";
-            String neg4 = negativeKeywords.size() > 3 ? negativeKeywords.get(3) : "";
-            String neg5 = negativeKeywords.size() > 4 ? negativeKeywords.get(4) : "";
+    /**
+     * Gets all active airdrop tweets that matched a keyword profile at ingest.
+     * The profiles were stored with each tweet, so this is an index lookup rather than a keyword scan.
+     *
+     * @param profile The name of a configured profile
+     * @return A list of the profile's airdrop tweets
+     * @throws IllegalArgumentException if no profile with this name is configured
+     */
+    @Transactional(readOnly = true)
+    public List<AirdropTweet> getProfileAirdrops(String profile) {
+        return getProfileAirdrops(profile, Since.ALL);
+    }
 
-            List<AirdropTweet> keywordResults = repository.findTweetsByKeywordFiltered(
-                    positiveKeyword,
-                    negativeKeywords.isEmpty() ? null : negativeKeywords,
-                    neg1, neg2, neg3, neg4, neg5);
+    /**
+     * Gets the active airdrop tweets newer than a bound that matched a keyword profile at ingest.
+     *
+     * @param profile The name of a configured profile
+     * @param since   Only tweets newer than this bound are returned
+     * @return A list of the profile's airdrop tweets in identifier order
+     * @throws IllegalArgumentException if no profile with this name is configured
+     */
+    @Transactional(readOnly = true)
+    public List<AirdropTweet> getProfileAirdrops(String profile, Since since) {
+        requireProfile(profile);
+        return store.findByProfile(profile, since);
+    }
 
-            // Add unique results
-            for (AirdropTweet tweet : keywordResults) {
-                if (!results.contains(tweet)) {
-                    results.add(tweet);
-                }
-            }
+    /**
+     * Checks that a keyword profile is configured, so callers can reject a request before doing any work.
+     *
+     * @param profile The name of a profile
+     * @throws IllegalArgumentException if no profile with this name is configured
+     */
+    public void requireProfile(String profile) {
+        if (!properties.getProfiles().containsKey(profile)) {
+            throw new IllegalArgumentException("Unknown keyword profile: " + profile);
         }
-
-        return results;
     }
 
     /**
-     * Searches for airdrop tweets containing a specific keyword.
+     * Searches for active airdrop tweets containing a specific keyword.
      *
      * @param keyword The keyword to search for
      * @return A list of matching tweets
      */
     @Transactional(readOnly = true)
     public List<AirdropTweet> searchByKeyword(String keyword) {
-        return repository.findByKeyword(keyword);
+        return searchByKeyword(keyword, Since.ALL);
+    }
+
+    /**
+     * Searches for active airdrop tweets newer than a bound containing a specific keyword.
+     *
+     * @param keyword The keyword to search for
+     * @param since   Only tweets newer than this bound are returned
+     * @return A list of matching tweets in identifier order
+     */
+    @Transactional(readOnly = true)
+    public List<AirdropTweet> searchByKeyword(String keyword, Since since) {
+        return store.findByKeyword(keyword, since);
+    }
+
+    /**
+     * Gets the next page of active airdrop tweets containing a specific keyword, in identifier order.
+     *
+     * @param keyword The keyword to search for
+     * @param afterId Only tweets with a greater identifier are returned; 0 starts at the beginning
+     * @param limit   Maximum number of tweets to return
+     * @return Up to limit matching tweets
+     */
+    @Transactional(readOnly = true)
+    public List<AirdropTweet> searchByKeywordPage(String keyword, long afterId, int limit) {
+        FilterExpression filter = new FilterExpression.And(List.of(new FilterExpression.Status(AirdropStatus.ACTIVE),
+                new FilterExpression.Keyword(TextNormalizer.fold(keyword))));
+        return store.findMatchingAfter(filter, afterId, limit);
+    }
+
+    /**
+     * Finds the newest airdrop tweets matching a boolean filter query over keywords, sources, tasks and dates.
+     * The query is parsed and optimized once and evaluated by the store in a single pass.
+     * Unless the query has a {@code status:} term, only active airdrops are searched.
+     *
+     * @param filter The filter query, e.g. {@code (mint OR claim) AND source:twitter AND NOT scam}
+     * @return Up to the configured maximum of matching tweets, newest first
+     * @throws IllegalArgumentException if the query is malformed or exceeds a configured limit
+     */
+    @Transactional(readOnly = true)
+    public List<AirdropTweet> query(String filter) {
+        return query(filter, Since.ALL);
+    }
+
+    /**
+     * Finds the newest airdrop tweets newer than a bound matching a boolean filter query.
+     * The bound is applied before the result limit, so a delta never misses tweets cut off by it.
+     *
+     * @param filter The filter query
+     * @param since  Only tweets newer than this bound are returned
+     * @return Up to the configured maximum of matching tweets, newest first
+     * @throws IllegalArgumentException if the query is malformed or exceeds a configured limit
+     */
+    @Transactional(readOnly = true)
+    public List<AirdropTweet> query(String filter, Since since) {
+        return query(parseQuery(filter), since);
+    }
+
+    /**
+     * Finds the newest airdrop tweets newer than a bound matching a parsed filter query.
+     *
+     * @param expression The filter, as returned by {@link #parseQuery(String)}
+     * @param since      Only tweets newer than this bound are returned
+     * @return Up to the configured maximum of matching tweets, newest first
+     */
+    @Transactional(readOnly = true)
+    public List<AirdropTweet> query(FilterExpression expression, Since since) {
+        return store.findMatching(expression, since, properties.getQuery().getMaxResults());
+    }
+
+    /**
+     * Parses and optimizes a boolean filter query. Unless the query has a {@code status:} term,
+     * the expression only matches active airdrops.
+     *
+     * @param filter The filter query
+     * @return The parsed expression
+     * @throws IllegalArgumentException if the query is malformed or exceeds a configured limit
+     */
+    public FilterExpression parseQuery(String filter) {
+        return filterParser.parse(filter, AirdropStatus.ACTIVE);
+    }
+
+    /**
+     * Stores already processed airdrop tweets as they are, without keyword matching.
+     * Used to bulk load tweets exported from another environment. Tweets whose link is already stored,
+     * or repeated within the list, are skipped, so an import can be run again after a partial failure.
+     *
+     * @param airdropTweets The tweets to store
+     * @return The newly stored tweets
+     */
+    @Transactional
+    public List<AirdropTweet> importTweets(List<AirdropTweet> airdropTweets) {
+        Set<String> links = new HashSet<>();
+        for (AirdropTweet airdropTweet : airdropTweets) {
+            links.add(airdropTweet.getLink());
+        }
+        // One lookup for the whole batch; links stored already or repeated in the batch are skipped
+        Set<String> skipped = new HashSet<>(store.findExistingLinks(links));
+        List<AirdropTweet> newTweets = new ArrayList<>(airdropTweets.size());
+        for (AirdropTweet airdropTweet : airdropTweets) {
+            if (skipped.add(airdropTweet.getLink())) {
+                newTweets.add(airdropTweet);
+            }
+        }
+        if (newTweets.isEmpty()) {
+            return newTweets;
+        }
+
+        List<AirdropTweet> saved = store.saveAll(newTweets);
+        afterCommit(this::dataChangedLocally);
+        return saved;
+    }
+
+    /**
+     * Gets the next page of airdrop tweets in identifier order.
+     *
+     * @param afterId Only tweets with a greater identifier are returned; 0 starts at the beginning
+     * @param limit   Maximum number of tweets to return
+     * @return Up to limit airdrop tweets
+     */
+    @Transactional(readOnly = true)
+    public List<AirdropTweet> findPage(long afterId, int limit) {
+        return store.findPage(afterId, limit);
+    }
+
+    /**
+     * Finds an airdrop tweet by its identifier.
+     *
+     * @param id The identifier of the tweet
+     * @return The tweet, or an empty optional if it does not exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<AirdropTweet> findById(Long id) {
+        return store.findById(id);
+    }
+
+    /**
+     * Gets an identifier of the current state of the stored data and keyword configuration.
+     * It moves forward once a change has committed on any node, so a response tagged with a version read
+     * before its query never claims to be newer than its body. Each change carries its version to the
+     * other nodes, which adopt it, so after a change every node of the cluster reports the same version
+     * and entity tags stay valid across nodes. Versions start at the node's start time and never move
+     * backwards, so a restarted node never repeats a version handed out for older data.
+     *
+     * @return The data version
+     */
+    public String getDataVersion() {
+        return Long.toHexString(dataVersion.get());
+    }
+
+    /**
+     * Replaces the keyword configuration on this node and on every other node of the cluster.
+     *
+     * @param positiveKeywords The new positive keywords
+     * @param negativeKeywords The new negative keywords
+     */
+    public void updateKeywords(List<String> positiveKeywords, List<String> negativeKeywords) {
+        long version = applyKeywords(positiveKeywords, negativeKeywords, clock.millis());
+        clusterCoordinator.publishKeywords(positiveKeywords, negativeKeywords, version);
+    }
+
+    /**
+     * Applies an event published by another node of the cluster.
+     *
+     * @param event The cluster event
+     */
+    public void handleClusterEvent(ClusterEvent event) {
+        switch (event.getType()) {
+            case CACHE_INVALIDATED -> dataChanged(event.getVersion());
+            case KEYWORDS_CHANGED -> applyKeywords(event.getPositiveKeywords(), event.getNegativeKeywords(),
+                    event.getVersion());
+        }
+    }
+
+    /**
+     * Applies a new keyword configuration on this node.
+     *
+     * @param positiveKeywords The new positive keywords
+     * @param negativeKeywords The new negative keywords
+     * @param minVersion       The lowest data version after the change
+     * @return The new data version
+     */
+    private long applyKeywords(List<String> positiveKeywords, List<String> negativeKeywords, long minVersion) {
+        keywords = new KeywordLists(List.copyOf(positiveKeywords), List.copyOf(negativeKeywords));
+        log.info("Applied keyword configuration: positive={}, negative={}", positiveKeywords, negativeKeywords);
+        return dataChanged(minVersion);
+    }
+
+    /**
+     * Called by the expiry scheduler after airdrops have been expired on this node.
+     */
+    public void airdropsExpired() {
+        dataChangedLocally();
+    }
+
+    /**
+     * Finds the active airdrop tweets matching the configured keywords.
+     *
+     * @param since Only tweets newer than this bound are returned
+     * @return A list of filtered airdrop tweets in identifier order
+     */
+    private List<AirdropTweet> findFiltered(Since since) {
+        KeywordLists keywords = readKeywords();
+        return store.findFiltered(keywords.positive(), keywords.negative(), since);
+    }
+
+    /**
+     * Gets the keyword lists filtered reads apply: the configured lists, or the built-in lists while no
+     * positive keyword is configured.
+     *
+     * @return The keywords to filter by
+     */
+    private KeywordLists readKeywords() {
+        KeywordLists current = keywords;
+        return current.positive().isEmpty() ? BUILT_IN_KEYWORDS : current;
+    }
+
+    /**
+     * Runs an action once the current transaction has committed, or right away without a transaction.
+     * Nothing is published for a transaction that rolls back, and other nodes reloading on an invalidation
+     * see the committed rows.
+     *
+     * @param action The action to run
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Records a committed change made on this node and tells the other nodes about it.
+     */
+    private void dataChangedLocally() {
+        clusterCoordinator.publishInvalidation(dataChanged(clock.millis()));
+    }
+
+    /**
+     * Drops cached query results and moves the data version forward, to at least the given version.
+     * Local changes pass the current time, changes made on other nodes pass the version of that node.
+     *
+     * @param minVersion The lowest data version after the change
+     * @return The new data version
+     */
+    private long dataChanged(long minVersion) {
+        filteredCache.invalidate();
+        return dataVersion.accumulateAndGet(minVersion, (current, min) -> Math.max(current + 1, min));
+    }
+
+    /**
+     * Gets the keyword configuration compiled for matching, recompiling it when the configured lists change.
+     * The default keywords and all profiles share one matcher, so a tweet is scanned once for all of them.
+     *
+     * @return The compiled keywords
+     */
+    private CompiledKeywords compiledKeywords() {
+        KeywordLists lists = keywords;
+        Map<String, AirdropDiscoveryProperties.Keywords> profiles = properties.getProfiles();
+
+        CompiledKeywords current = compiledKeywords;
+        if (current == null || current.keywordSource() != lists || current.profileSource() != profiles) {
+            List<ProfileMatcher.Profile> matcherProfiles = new ArrayList<>();
+            matcherProfiles.add(new ProfileMatcher.Profile(lists.positive(), lists.negative()));
+            Map<String, String> taskKeywords = new LinkedHashMap<>();
+            for (String keyword : lists.positive()) {
+                taskKeywords.putIfAbsent(TextNormalizer.fold(keyword), keyword);
+            }
+            for (AirdropDiscoveryProperties.Keywords profile : profiles.values()) {
+                matcherProfiles.add(new ProfileMatcher.Profile(profile.getPositive(), profile.getNegative()));
+                for (String keyword : profile.getPositive()) {
+                    taskKeywords.putIfAbsent(TextNormalizer.fold(keyword), keyword);
+                }
+            }
+
+            List<KeywordPattern> taskPatterns = new ArrayList<>();
+            for (Map.Entry<String, String> keyword : taskKeywords.entrySet()) {
+                taskPatterns.add(new KeywordPattern(keyword.getKey(),
+                        Pattern.compile("\\b" + Pattern.quote(keyword.getValue()) + "\\b.{0,50}",
+                                Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE)));
+            }
+            current = new CompiledKeywords(lists, profiles,
+                    new ProfileMatcher(matcherProfiles), List.copyOf(profiles.keySet()), taskPatterns);
+            compiledKeywords = current;
+        }
+        return current;
+    }
+
+    /**
+     * Gets the names of the profiles a tweet matched.
+     *
+     * @param matched  The positions of the matching profiles, 0 being the default keywords
+     * @param keywords The compiled keyword configuration
+     * @return The names of the matching named profiles
+     */
+    private Set<String> profileNames(BitSet matched, CompiledKeywords keywords) {
+        Set<String> names = new LinkedHashSet<>();
+        for (int i = matched.nextSetBit(1); i >= 0; i = matched.nextSetBit(i + 1)) {
+            names.add(keywords.profileNames().get(i - 1));
+        }
+        return names;
+    }
+
+    /**
+     * Checks whether a link was already ingested, first against the links recently committed by this node
+     * and then against the store, where the link is indexed.
+     *
+     * @param link The link to the original tweet
+     * @return true if the tweet was already stored
+     */
+    private boolean isDuplicate(String link) {
+        return clusterCoordinator.isRecentlySeen(link) || store.existsByLink(link);
+    }
+
+    /**
+     * Sets the lifecycle status of a new airdrop from its text. A tweet announcing the end of its campaign
+     * is ended, and a tweet with a deadline that has already passed is expired right away.
+     *
+     * @param airdropTweet   The airdrop tweet to update
+     * @param normalizedText The normalized text of the tweet
+     */
+    private void applyLifecycle(AirdropTweet airdropTweet, NormalizedText normalizedText) {
+        String folded = normalizedText.getFolded();
+        if (DeadlineParser.statesEnded(folded)) {
+            airdropTweet.setStatus(AirdropStatus.ENDED);
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime expiresAt = DeadlineParser.parseDeadline(folded, now).orElse(null);
+        airdropTweet.setExpiresAt(expiresAt);
+        airdropTweet.setStatus(expiresAt != null && !expiresAt.isAfter(now)
+                ? AirdropStatus.EXPIRED
+                : AirdropStatus.ACTIVE);
     }
 
     /**
@@ -168,25 +621,28 @@ public class AirdropDiscoveryService {
     /**
      * Extracts tasks from the tweet text.
      *
-     * @param tweetText The raw text of the tweet
+     * @param tweetText      The raw text of the tweet
+     * @param normalizedText The normalized text of the tweet
+     * @param keywords       The compiled keyword configuration
      * @return The extracted tasks
      */
-    private String extractTasks(String tweetText) {
+    private String extractTasks(String tweetText, NormalizedText normalizedText, CompiledKeywords keywords) {
         StringBuilder tasks = new StringBuilder();
 
         // Look for task patterns like "1. Do this" or "• Do that"
-        Pattern taskPattern = Pattern.compile("(?m)^\\s*(?:[0-9]+\\.|[•\\-*])\\s*(.+)$");
-        Matcher matcher = taskPattern.matcher(tweetText);
+        Matcher matcher = TASK_PATTERN.matcher(tweetText);
 
         while (matcher.find()) {
             tasks.append("- ").append(matcher.group(1).trim()).append("\n");
         }
 
-        // If no structured tasks are found, look for keywords
+        // If no structured tasks are found, look for keywords present in the tweet
         if (tasks.length() == 0) {
-            for (String keyword : properties.getKeywords().getPositive()) {
-                Pattern keywordPattern = Pattern.compile("(?i)\\b" + keyword + "\\b.{0,50}");
-                Matcher keywordMatcher = keywordPattern.matcher(tweetText);
+            for (KeywordPattern keyword : keywords.taskPatterns()) {
+                if (!normalizedText.contains(keyword.foldedKeyword())) {
+                    continue;
+                }
+                Matcher keywordMatcher = keyword.pattern().matcher(tweetText);
 
                 while (keywordMatcher.find()) {
                     String match = keywordMatcher.group(0).trim();
@@ -199,17 +655,23 @@ public class AirdropDiscoveryService {
     }
 
     /**
-     * Sends a webhook notification when a new airdrop is detected.
-     * This is a simple implementation that can be expanded in the future.
-     *
-     * @param airdropTweet The detected airdrop tweet
+     * Immutable snapshot of the default keyword lists.
      */
-    private void sendWebhookNotification(AirdropTweet airdropTweet) {
-        log.info("Would send webhook notification for airdrop: {} to URL: {}",
-                airdropTweet.getTitle(),
-                properties.getIntegration().getWebhookUrl());
+    private record KeywordLists(List<String> positive, List<String> negative) {
+    }
 
-        // TODO: Implement actual webhook notification in future versions
-        // This would typically use WebClient, RestTemplate, or a dedicated webhook library
+    /**
+     * Keyword configuration compiled for matching, together with the lists it was compiled from.
+     */
+    private record CompiledKeywords(KeywordLists keywordSource,
+                                    Map<String, AirdropDiscoveryProperties.Keywords> profileSource,
+                                    ProfileMatcher matcher, List<String> profileNames,
+                                    List<KeywordPattern> taskPatterns) {
+    }
+
+    /**
+     * Pattern extracting the text following a positive keyword.
+     */
+    private record KeywordPattern(String foldedKeyword, Pattern pattern) {
     }
-} 
\ No newline at end of file
+}
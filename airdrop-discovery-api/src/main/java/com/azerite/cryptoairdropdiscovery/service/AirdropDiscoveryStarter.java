@@ -0,0 +1,38 @@
+package com.azerite.cryptoairdropdiscovery.service;
+
+import com.azerite.cryptoairdropdiscovery.cluster.ClusterCoordinator;
+import com.azerite.cryptoairdropdiscovery.lifecycle.ExpiryScheduler;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+/**
+ * Joins the cluster and starts the expiry scheduler once every singleton has been created.
+ * The callbacks are bound to the service bean of the context, not to the service instance itself,
+ * so tweets forwarded by other nodes and expiry notifications go through the same transaction and
+ * concurrency advice as any other call, and nothing reaches the service before it is fully built.
+ */
+public class AirdropDiscoveryStarter implements SmartInitializingSingleton {
+
+    private final AirdropDiscoveryService service;
+    private final ClusterCoordinator clusterCoordinator;
+    private final ExpiryScheduler expiryScheduler;
+
+    /**
+     * Constructor for AirdropDiscoveryStarter.
+     *
+     * @param service            The service bean, as exposed by the context
+     * @param clusterCoordinator Coordinator for the other nodes of the cluster
+     * @param expiryScheduler    Scheduler expiring airdrops once their deadline has passed
+     */
+    public AirdropDiscoveryStarter(AirdropDiscoveryService service, ClusterCoordinator clusterCoordinator,
+                                   ExpiryScheduler expiryScheduler) {
+        this.service = service;
+        this.clusterCoordinator = clusterCoordinator;
+        this.expiryScheduler = expiryScheduler;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        clusterCoordinator.join(service::processTweet, service::handleClusterEvent);
+        expiryScheduler.start(service::airdropsExpired);
+    }
+}
@@ -0,0 +1,67 @@
+package com.azerite.cryptoairdropdiscovery.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches the result of a query until it is invalidated or its time to live expires.
+ * A result loaded while an invalidation happens is never served from the cache,
+ * so a save can not be hidden by a query that started before it.
+ *
+ * @param <T> The type of the cached result
+ */
+class QueryResultCache<T> {
+
+    private final Duration ttl;
+    private final Clock clock;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Entry<T> entry;
+
+    /**
+     * Constructor for QueryResultCache.
+     *
+     * @param ttl   How long a result is served from the cache; zero disables caching
+     * @param clock Clock used to expire results
+     */
+    QueryResultCache(Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached result, loading it if the cache is empty, expired or invalidated.
+     *
+     * @param loader Loads the result from the underlying store
+     * @return The query result
+     */
+    T get(Supplier<T> loader) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            return loader.get();
+        }
+
+        long currentGeneration = generation.get();
+        Entry<T> current = entry;
+        if (current != null && current.generation() == currentGeneration && clock.millis() < current.expiresAt()) {
+            return current.value();
+        }
+
+        T value = loader.get();
+        if (generation.get() == currentGeneration) {
+            entry = new Entry<>(value, currentGeneration, clock.millis() + ttl.toMillis());
+        }
+        return value;
+    }
+
+    /**
+     * Drops the cached result.
+     */
+    void invalidate() {
+        generation.incrementAndGet();
+        entry = null;
+    }
+
+    private record Entry<T>(T value, long generation, long expiresAt) {
+    }
+}
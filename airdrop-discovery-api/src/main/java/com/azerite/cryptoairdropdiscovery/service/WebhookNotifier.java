@@ -0,0 +1,59 @@
+package com.azerite.cryptoairdropdiscovery.service;
+
+import com.azerite.cryptoairdropdiscovery.config.AirdropDiscoveryProperties;
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Sends webhook notifications for newly detected airdrops.
+ * Notifications are handed to an executor so slow webhook endpoints do not hold up ingestion.
+ */
+@Slf4j
+public class WebhookNotifier {
+
+    private final AirdropDiscoveryProperties properties;
+    private final Executor executor;
+
+    /**
+     * Constructor for WebhookNotifier.
+     *
+     * @param properties Configuration properties
+     * @param executor   Executor the notifications are sent on
+     */
+    public WebhookNotifier(AirdropDiscoveryProperties properties, Executor executor) {
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    /**
+     * Sends a webhook notification for a detected airdrop if webhooks are enabled.
+     *
+     * @param airdropTweet The detected airdrop tweet
+     */
+    public void notifyNewAirdrop(AirdropTweet airdropTweet) {
+        AirdropDiscoveryProperties.Integration integration = properties.getIntegration();
+        if (integration == null || !integration.isWebhookEnabled() || integration.getWebhookUrl() == null) {
+            return;
+        }
+
+        executor.execute(() -> send(airdropTweet, integration.getWebhookUrl()));
+    }
+
+    /**
+     * Sends the webhook notification.
+     * This is a simple implementation that can be expanded in the future.
+     *
+     * @param airdropTweet The detected airdrop tweet
+     * @param webhookUrl   The URL to notify
+     */
+    private void send(AirdropTweet airdropTweet, String webhookUrl) {
+        log.info("Would send webhook notification for airdrop: {} to URL: {}",
+                airdropTweet.getTitle(),
+                webhookUrl);
+
+        // TODO: Implement actual webhook notification in future versions
+        // This would typically use WebClient, RestTemplate, or a dedicated webhook library
+    }
+}
@@ -0,0 +1,126 @@
+package com.azerite.cryptoairdropdiscovery.storage;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression;
+import com.azerite.cryptoairdropdiscovery.query.Since;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Storage abstraction used by the airdrop discovery service.
+ * Implementations decide where detected airdrop tweets are kept and how they are queried.
+ * Read methods take the lower bound of a delta query, so polling clients only read newer tweets.
+ */
+public interface AirdropTweetStore {
+
+    /**
+     * Persists an airdrop tweet.
+     *
+     * @param airdropTweet The tweet to store
+     * @return The stored tweet, with its identifier assigned
+     */
+    AirdropTweet save(AirdropTweet airdropTweet);
+
+    /**
+     * Persists a batch of airdrop tweets.
+     *
+     * @param airdropTweets The tweets to store
+     * @return The stored tweets, with their identifiers assigned
+     */
+    List<AirdropTweet> saveAll(List<AirdropTweet> airdropTweets);
+
+    /**
+     * Finds a stored tweet by its identifier.
+     *
+     * @param id The identifier of the tweet
+     * @return The tweet, or an empty optional if it is not stored
+     */
+    Optional<AirdropTweet> findById(Long id);
+
+    /**
+     * Checks whether a tweet with the given link is stored.
+     *
+     * @param link The link to the original tweet
+     * @return true if a tweet with this link exists
+     */
+    boolean existsByLink(String link);
+
+    /**
+     * Finds which of the given links are stored, in one lookup.
+     *
+     * @param links The links to the original tweets
+     * @return The subset of the links belonging to a stored tweet
+     */
+    Set<String> findExistingLinks(Collection<String> links);
+
+    /**
+     * Finds the next page of stored tweets in identifier order, with their profiles loaded.
+     *
+     * @param afterId Only tweets with a greater identifier are returned; 0 starts at the beginning
+     * @param limit   Maximum number of tweets to return
+     * @return Up to limit tweets ordered by identifier
+     */
+    List<AirdropTweet> findPage(long afterId, int limit);
+
+    /**
+     * Finds all active stored tweets whose raw text contains the given keyword, ignoring case.
+     *
+     * @param keyword The keyword to search for
+     * @param since   Only tweets newer than this bound are returned
+     * @return A list of matching airdrop tweets in identifier order
+     */
+    List<AirdropTweet> findByKeyword(String keyword, Since since);
+
+    /**
+     * Finds all active stored tweets that contain at least one positive keyword and none of the negative keywords.
+     * The caller resolves the keyword lists; an empty positive list matches nothing.
+     *
+     * @param positiveKeywords Keywords of which at least one must be present
+     * @param negativeKeywords Keywords of which none may be present
+     * @param since            Only tweets newer than this bound are returned
+     * @return A list of filtered airdrop tweets without duplicates, in identifier order
+     */
+    List<AirdropTweet> findFiltered(List<String> positiveKeywords, List<String> negativeKeywords, Since since);
+
+    /**
+     * Finds all active stored tweets that matched a keyword profile when they were ingested.
+     *
+     * @param profile The name of the profile
+     * @param since   Only tweets newer than this bound are returned
+     * @return A list of airdrop tweets in identifier order
+     */
+    List<AirdropTweet> findByProfile(String profile, Since since);
+
+    /**
+     * Finds the newest stored tweets matching a boolean filter expression.
+     *
+     * @param filter The optimized filter expression
+     * @param since  Only tweets newer than this bound are returned
+     * @param limit  Maximum number of tweets to return
+     * @return Up to limit matching tweets, newest first
+     */
+    List<AirdropTweet> findMatching(FilterExpression filter, Since since, int limit);
+
+    /**
+     * Finds the next page of stored tweets matching a boolean filter expression, in identifier order.
+     * Used as a keyset cursor to stream large results one page at a time.
+     *
+     * @param filter  The filter expression
+     * @param afterId Only tweets with a greater identifier are returned; 0 starts at the beginning
+     * @param limit   Maximum number of tweets to return
+     * @return Up to limit matching tweets ordered by identifier
+     */
+    List<AirdropTweet> findMatchingAfter(FilterExpression filter, long afterId, int limit);
+
+    /**
+     * Marks every active tweet whose deadline has passed as expired, in one bulk update.
+     *
+     * @param now The current time
+     * @return The number of tweets that were expired
+     */
+    int expireDue(LocalDateTime now);
+}
@@ -0,0 +1,45 @@
+package com.azerite.cryptoairdropdiscovery.storage;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Interceptor bounding the number of concurrent transactions started through the intercepted methods.
+ * With virtual threads there is no thread pool limiting concurrency anymore, so the permits are sized to
+ * the database connection pool. Ordered ahead of the transaction interceptor, a caller takes a permit before
+ * its transaction checks out a connection, so excess callers queue here instead of timing out on the pool.
+ * Calls made inside a transaction that is already active hold a connection and pass through.
+ */
+public class ConcurrencyLimitInterceptor implements MethodInterceptor {
+
+    private final Semaphore permits;
+
+    /**
+     * Constructor for ConcurrencyLimitInterceptor.
+     *
+     * @param maxConcurrent Maximum number of transactions running at the same time
+     */
+    public ConcurrencyLimitInterceptor(int maxConcurrent) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("Maximum concurrency must be positive");
+        }
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return invocation.proceed();
+        }
+
+        permits.acquireUninterruptibly();
+        try {
+            return invocation.proceed();
+        } finally {
+            permits.release();
+        }
+    }
+}
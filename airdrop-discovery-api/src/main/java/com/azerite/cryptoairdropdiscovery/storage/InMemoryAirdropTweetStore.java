@@ -0,0 +1,482 @@
+package com.azerite.cryptoairdropdiscovery.storage;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropStatus;
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.And;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.CreatedAfter;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.CreatedBefore;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Keyword;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Not;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Or;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Source;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Status;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Task;
+import com.azerite.cryptoairdropdiscovery.query.Since;
+import com.azerite.cryptoairdropdiscovery.text.TextNormalizer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bounded in-memory store keeping only the most recent airdrop tweets.
+ * Tweets live in a time-ordered ring buffer addressed by their id, and the configured keywords
+ * are indexed at save time into postings lists so filtered queries do not rescan the text.
+ * Tweets are evicted once the buffer wraps around or they fall outside the retention window.
+ * Matched keyword profiles get postings lists of their own, so a profile's tweets are read without a scan.
+ * Deadlines of active tweets are kept in a set ordered by time, so expiring them only visits due tweets.
+ * A deadline is removed together with its tweet, so the set never holds more entries than the buffer.
+ * The buffer is allocated on the first save, so an idle store costs nothing at startup.
+ */
+public class InMemoryAirdropTweetStore implements AirdropTweetStore {
+
+    private final int capacity;
+    private final Duration retention;
+    private final Clock clock;
+    private final Map<String, LongPostings> postings = new HashMap<>();
+    private final Map<String, LongPostings> profilePostings = new HashMap<>();
+    private final Map<String, Long> linkIds = new HashMap<>();
+    private final NavigableSet<Deadline> deadlines = new TreeSet<>(
+            Comparator.comparing(Deadline::expiresAt).thenComparingLong(Deadline::id));
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private AirdropTweet[] ring;
+    private String[] foldedTexts;
+    private long nextId = 1;
+
+    /**
+     * Constructor for InMemoryAirdropTweetStore.
+     *
+     * @param capacity         Maximum number of tweets kept in memory
+     * @param retention        Maximum age of a tweet before it is no longer returned
+     * @param indexedKeywords  Keywords to maintain postings lists for
+     */
+    public InMemoryAirdropTweetStore(int capacity, Duration retention, Collection<String> indexedKeywords) {
+        this(capacity, retention, indexedKeywords, Clock.systemDefaultZone());
+    }
+
+    InMemoryAirdropTweetStore(int capacity, Duration retention, Collection<String> indexedKeywords, Clock clock) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.retention = retention;
+        this.clock = clock;
+        for (String keyword : indexedKeywords) {
+            postings.put(TextNormalizer.fold(keyword), new LongPostings());
+        }
+    }
+
+    @Override
+    public AirdropTweet save(AirdropTweet airdropTweet) {
+        lock.writeLock().lock();
+        try {
+            if (ring == null) {
+                ring = new AirdropTweet[capacity];
+                foldedTexts = new String[capacity];
+            }
+
+            long id = nextId++;
+            airdropTweet.setId(id);
+            if (airdropTweet.getCreatedAt() == null) {
+                airdropTweet.setCreatedAt(LocalDateTime.now(clock));
+            }
+
+            // Fold once here, so queries compare against the folded columns instead of folding every tweet
+            airdropTweet.fold();
+            String foldedText = airdropTweet.getFoldedText();
+            int slot = slot(id);
+            AirdropTweet evicted = ring[slot];
+            if (evicted != null) {
+                linkIds.remove(evicted.getLink(), evicted.getId());
+                if (evicted.getExpiresAt() != null) {
+                    deadlines.remove(new Deadline(evicted.getId(), evicted.getExpiresAt()));
+                }
+            }
+            ring[slot] = airdropTweet;
+            foldedTexts[slot] = foldedText;
+            linkIds.put(airdropTweet.getLink(), id);
+            if (airdropTweet.getExpiresAt() != null && airdropTweet.getStatus() == AirdropStatus.ACTIVE) {
+                deadlines.add(new Deadline(id, airdropTweet.getExpiresAt()));
+            }
+
+            long oldestId = oldestBufferedId();
+            for (Map.Entry<String, LongPostings> entry : postings.entrySet()) {
+                LongPostings list = entry.getValue();
+                list.trimBefore(oldestId);
+                if (foldedText.contains(entry.getKey())) {
+                    list.add(id);
+                }
+            }
+            for (LongPostings list : profilePostings.values()) {
+                list.trimBefore(oldestId);
+            }
+            for (String profile : airdropTweet.getProfiles()) {
+                profilePostings.computeIfAbsent(profile, key -> new LongPostings()).add(id);
+            }
+            return airdropTweet;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<AirdropTweet> saveAll(List<AirdropTweet> airdropTweets) {
+        lock.writeLock().lock();
+        try {
+            for (AirdropTweet airdropTweet : airdropTweets) {
+                save(airdropTweet);
+            }
+            return airdropTweets;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<AirdropTweet> findById(Long id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(liveTweet(id, cutoff()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsByLink(String link) {
+        lock.readLock().lock();
+        try {
+            Long id = linkIds.get(link);
+            return id != null && liveTweet(id, cutoff()) != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<String> findExistingLinks(Collection<String> links) {
+        lock.readLock().lock();
+        try {
+            LocalDateTime cutoff = cutoff();
+            Set<String> existing = new HashSet<>();
+            for (String link : links) {
+                Long id = linkIds.get(link);
+                if (id != null && liveTweet(id, cutoff) != null) {
+                    existing.add(link);
+                }
+            }
+            return existing;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<AirdropTweet> findPage(long afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            LocalDateTime cutoff = cutoff();
+            List<AirdropTweet> results = new ArrayList<>(Math.min(limit, capacity));
+            for (long id = Math.max(afterId + 1, oldestBufferedId()); id < nextId && results.size() < limit; id++) {
+                AirdropTweet tweet = liveTweet(id, cutoff);
+                if (tweet != null) {
+                    results.add(tweet);
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<AirdropTweet> findByKeyword(String keyword, Since since) {
+        String foldedKeyword = TextNormalizer.fold(keyword);
+        lock.readLock().lock();
+        try {
+            LocalDateTime cutoff = cutoff();
+            LongPostings list = postings.get(foldedKeyword);
+            if (list != null) {
+                return activeTweets(list, since, cutoff);
+            }
+
+            List<AirdropTweet> results = new ArrayList<>();
+            for (long id = firstId(since); id < nextId; id++) {
+                AirdropTweet tweet = activeTweet(id, cutoff);
+                if (tweet != null && since.includes(tweet) && foldedTexts[slot(id)].contains(foldedKeyword)) {
+                    results.add(tweet);
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<AirdropTweet> findFiltered(List<String> positiveKeywords, List<String> negativeKeywords,
+                                           Since since) {
+        List<String> positive = fold(positiveKeywords);
+        List<String> negative = fold(negativeKeywords);
+
+        lock.readLock().lock();
+        try {
+            long firstId = firstId(since);
+            LocalDateTime cutoff = cutoff();
+            BitSet matches = new BitSet();
+
+            if (isIndexed(positive) && isIndexed(negative)) {
+                for (String keyword : positive) {
+                    mark(matches, postings.get(keyword), firstId, true);
+                }
+                for (String keyword : negative) {
+                    mark(matches, postings.get(keyword), firstId, false);
+                }
+            } else {
+                for (long id = firstId; id < nextId; id++) {
+                    String text = foldedTexts[slot(id)];
+                    if (text != null && containsAny(text, positive) && !containsAny(text, negative)) {
+                        matches.set((int) (id - firstId));
+                    }
+                }
+            }
+
+            List<AirdropTweet> results = new ArrayList<>(matches.cardinality());
+            for (int offset = matches.nextSetBit(0); offset >= 0; offset = matches.nextSetBit(offset + 1)) {
+                AirdropTweet tweet = activeTweet(firstId + offset, cutoff);
+                if (tweet != null && since.includes(tweet)) {
+                    results.add(tweet);
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<AirdropTweet> findByProfile(String profile, Since since) {
+        lock.readLock().lock();
+        try {
+            LongPostings list = profilePostings.get(profile);
+            return list != null ? activeTweets(list, since, cutoff()) : new ArrayList<>();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<AirdropTweet> findMatching(FilterExpression filter, Since since, int limit) {
+        lock.readLock().lock();
+        try {
+            long firstId = firstId(since);
+            LocalDateTime cutoff = cutoff();
+            List<AirdropTweet> results = new ArrayList<>(Math.min(limit, capacity));
+
+            // A required indexed keyword restricts the candidates to its postings list
+            LongPostings candidates = smallestRequiredPostings(filter);
+            if (candidates != null) {
+                for (int i = candidates.size() - 1; i >= 0 && results.size() < limit; i--) {
+                    long id = candidates.get(i);
+                    if (id < firstId) {
+                        break;
+                    }
+                    addIfMatching(results, filter, since, id, cutoff);
+                }
+                return results;
+            }
+
+            for (long id = nextId - 1; id >= firstId && results.size() < limit; id--) {
+                addIfMatching(results, filter, since, id, cutoff);
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<AirdropTweet> findMatchingAfter(FilterExpression filter, long afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            LocalDateTime cutoff = cutoff();
+            List<AirdropTweet> results = new ArrayList<>(Math.min(limit, capacity));
+            for (long id = Math.max(afterId + 1, oldestBufferedId()); id < nextId && results.size() < limit; id++) {
+                addIfMatching(results, filter, Since.ALL, id, cutoff);
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int expireDue(LocalDateTime now) {
+        lock.writeLock().lock();
+        try {
+            LocalDateTime cutoff = cutoff();
+            int expired = 0;
+            while (!deadlines.isEmpty() && !deadlines.first().expiresAt().isAfter(now)) {
+                AirdropTweet tweet = liveTweet(deadlines.pollFirst().id(), cutoff);
+                if (tweet != null && tweet.getStatus() == AirdropStatus.ACTIVE) {
+                    tweet.setStatus(AirdropStatus.EXPIRED);
+                    expired++;
+                }
+            }
+            return expired;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of deadlines waiting to be expired.
+     *
+     * @return The number of pending deadlines
+     */
+    int pendingDeadlines() {
+        lock.readLock().lock();
+        try {
+            return deadlines.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addIfMatching(List<AirdropTweet> results, FilterExpression filter, Since since, long id,
+                               LocalDateTime cutoff) {
+        AirdropTweet tweet = liveTweet(id, cutoff);
+        if (tweet != null && since.includes(tweet) && matches(filter, tweet, foldedTexts[slot(id)])) {
+            results.add(tweet);
+        }
+    }
+
+    private List<AirdropTweet> activeTweets(LongPostings list, Since since, LocalDateTime cutoff) {
+        long firstId = firstId(since);
+        List<AirdropTweet> results = new ArrayList<>();
+        for (int i = 0; i < list.size(); i++) {
+            long id = list.get(i);
+            AirdropTweet tweet = id >= firstId ? activeTweet(id, cutoff) : null;
+            if (tweet != null && since.includes(tweet)) {
+                results.add(tweet);
+            }
+        }
+        return results;
+    }
+
+    private LongPostings smallestRequiredPostings(FilterExpression filter) {
+        List<FilterExpression> required = filter instanceof And and ? and.operands() : List.of(filter);
+        LongPostings smallest = null;
+        for (FilterExpression operand : required) {
+            if (operand instanceof Keyword keyword) {
+                LongPostings list = postings.get(keyword.keyword());
+                if (list != null && (smallest == null || list.size() < smallest.size())) {
+                    smallest = list;
+                }
+            }
+        }
+        return smallest;
+    }
+
+    private static boolean matches(FilterExpression filter, AirdropTweet tweet, String foldedText) {
+        return switch (filter) {
+            case Keyword keyword -> foldedText.contains(keyword.keyword());
+            case Source source -> source.source().equals(tweet.getFoldedSource());
+            case Task task -> tweet.getFoldedTasks() != null && tweet.getFoldedTasks().contains(task.task());
+            case Status status -> tweet.getStatus() == status.status();
+            case CreatedAfter after -> !tweet.getCreatedAt().isBefore(after.time());
+            case CreatedBefore before -> tweet.getCreatedAt().isBefore(before.time());
+            case And and -> and.operands().stream().allMatch(operand -> matches(operand, tweet, foldedText));
+            case Or or -> or.operands().stream().anyMatch(operand -> matches(operand, tweet, foldedText));
+            case Not not -> !matches(not.operand(), tweet, foldedText);
+        };
+    }
+
+    private void mark(BitSet matches, LongPostings list, long firstId, boolean value) {
+        for (int i = 0; i < list.size(); i++) {
+            long id = list.get(i);
+            if (id >= firstId) {
+                matches.set((int) (id - firstId), value);
+            }
+        }
+    }
+
+    private AirdropTweet liveTweet(long id, LocalDateTime cutoff) {
+        if (id < oldestBufferedId() || id >= nextId) {
+            return null;
+        }
+        AirdropTweet tweet = ring[slot(id)];
+        if (tweet == null || tweet.getCreatedAt().isBefore(cutoff)) {
+            return null;
+        }
+        return tweet;
+    }
+
+    private AirdropTweet activeTweet(long id, LocalDateTime cutoff) {
+        AirdropTweet tweet = liveTweet(id, cutoff);
+        return tweet != null && tweet.getStatus() == AirdropStatus.ACTIVE ? tweet : null;
+    }
+
+    private boolean isIndexed(List<String> keywords) {
+        return postings.keySet().containsAll(keywords);
+    }
+
+    private static boolean containsAny(String text, List<String> keywords) {
+        for (String keyword : keywords) {
+            if (text.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> fold(List<String> keywords) {
+        List<String> result = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            result.add(TextNormalizer.fold(keyword));
+        }
+        return result;
+    }
+
+    private long oldestBufferedId() {
+        return Math.max(1, nextId - capacity);
+    }
+
+    /**
+     * Gets the first identifier a query has to look at, skipping ids a delta query has already seen.
+     */
+    private long firstId(Since since) {
+        long oldestId = oldestBufferedId();
+        return since.afterId() != null ? Math.max(oldestId, since.afterId() + 1) : oldestId;
+    }
+
+    private LocalDateTime cutoff() {
+        return LocalDateTime.now(clock).minus(retention);
+    }
+
+    private int slot(long id) {
+        return (int) ((id - 1) % capacity);
+    }
+
+    /**
+     * Deadline of an active tweet.
+     */
+    private record Deadline(long id, LocalDateTime expiresAt) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.azerite.cryptoairdropdiscovery.storage;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropStatus;
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression;
+import com.azerite.cryptoairdropdiscovery.query.Since;
+import com.azerite.cryptoairdropdiscovery.repository.AirdropTweetRepository;
+import com.azerite.cryptoairdropdiscovery.text.TextNormalizer;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Store backed by the JPA {@link AirdropTweetRepository}.
+ * This is the default storage backend of the starter. Keyword reads are expressed as filter expressions,
+ * so each one is a single query whatever the number of keywords.
+ */
+public class JpaAirdropTweetStore implements AirdropTweetStore {
+
+    private final AirdropTweetRepository repository;
+
+    /**
+     * Constructor for JpaAirdropTweetStore.
+     *
+     * @param repository Repository for accessing tweet data
+     */
+    public JpaAirdropTweetStore(AirdropTweetRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public AirdropTweet save(AirdropTweet airdropTweet) {
+        return repository.save(airdropTweet);
+    }
+
+    @Override
+    public List<AirdropTweet> saveAll(List<AirdropTweet> airdropTweets) {
+        return repository.saveAll(airdropTweets);
+    }
+
+    @Override
+    public Optional<AirdropTweet> findById(Long id) {
+        return repository.findById(id);
+    }
+
+    @Override
+    public boolean existsByLink(String link) {
+        return repository.existsByLink(link);
+    }
+
+    @Override
+    public Set<String> findExistingLinks(Collection<String> links) {
+        return links.isEmpty() ? Set.of() : repository.findExistingLinks(links);
+    }
+
+    @Override
+    public List<AirdropTweet> findPage(long afterId, int limit) {
+        List<AirdropTweet> page = repository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, limit));
+        // Pages are exported after the transaction ends, so load the lazy profiles now, in batches
+        page.forEach(airdropTweet -> Hibernate.initialize(airdropTweet.getProfiles()));
+        return page;
+    }
+
+    @Override
+    public List<AirdropTweet> findByKeyword(String keyword, Since since) {
+        return repository.findAllByFilter(active(new FilterExpression.Keyword(TextNormalizer.fold(keyword))), since);
+    }
+
+    @Override
+    public List<AirdropTweet> findFiltered(List<String> positiveKeywords, List<String> negativeKeywords,
+                                           Since since) {
+        FilterExpression keywords = FilterExpression.keywords(positiveKeywords, negativeKeywords);
+        return repository.findAllByFilter(active(keywords), since);
+    }
+
+    @Override
+    public List<AirdropTweet> findByProfile(String profile, Since since) {
+        return repository.findByProfile(profile, since);
+    }
+
+    @Override
+    public List<AirdropTweet> findMatching(FilterExpression filter, Since since, int limit) {
+        return repository.findByFilter(filter, since, limit);
+    }
+
+    @Override
+    public List<AirdropTweet> findMatchingAfter(FilterExpression filter, long afterId, int limit) {
+        return repository.findByFilterAfter(filter, afterId, limit);
+    }
+
+    @Override
+    public int expireDue(LocalDateTime now) {
+        return repository.expireDue(now);
+    }
+
+    private static FilterExpression active(FilterExpression filter) {
+        return new FilterExpression.And(List.of(new FilterExpression.Status(AirdropStatus.ACTIVE), filter));
+    }
+}
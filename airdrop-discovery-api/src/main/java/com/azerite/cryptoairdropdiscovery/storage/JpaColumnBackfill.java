@@ -0,0 +1,56 @@
+package com.azerite.cryptoairdropdiscovery.storage;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import com.azerite.cryptoairdropdiscovery.repository.AirdropTweetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Fills the folded text columns of rows stored before they existed, when the application starts.
+ * Rows are updated in batches of one transaction each, so a large table does not hold one long
+ * transaction. It is a one-off upgrade step enabled by a property, as finding the rows scans the table.
+ */
+@Slf4j
+public class JpaColumnBackfill implements ApplicationRunner {
+
+    private final AirdropTweetRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    /**
+     * Constructor for JpaColumnBackfill.
+     *
+     * @param repository          Repository for accessing tweet data
+     * @param transactionTemplate Template running each batch in its own transaction
+     * @param batchSize           Number of rows updated per transaction
+     */
+    public JpaColumnBackfill(AirdropTweetRepository repository, TransactionTemplate transactionTemplate,
+                             int batchSize) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int filled = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> fillFoldedColumns());
+            filled += batch;
+        } while (batch > 0);
+
+        log.info("Filled folded text columns of {} stored airdrop tweets; the backfill can be disabled again", filled);
+    }
+
+    private int fillFoldedColumns() {
+        List<AirdropTweet> tweets = repository.findByFoldedTextIsNullOrderByIdAsc(PageRequest.of(0, batchSize));
+        tweets.forEach(AirdropTweet::fold);
+        return tweets.size();
+    }
+}
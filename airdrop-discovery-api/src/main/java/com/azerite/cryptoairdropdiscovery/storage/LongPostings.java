@@ -0,0 +1,56 @@
+package com.azerite.cryptoairdropdiscovery.storage;
+
+import java.util.Arrays;
+
+/**
+ * Append-only list of ascending tweet ids backed by a primitive array.
+ * Ids older than the live window of the owning store are trimmed from the head.
+ */
+class LongPostings {
+
+    private long[] ids = new long[8];
+    private int head;
+    private int tail;
+
+    /**
+     * Appends an id. Ids must be added in ascending order.
+     *
+     * @param id The id to append
+     */
+    void add(long id) {
+        if (tail == ids.length) {
+            if (head > ids.length / 2) {
+                // Reclaim the trimmed head instead of growing
+                System.arraycopy(ids, head, ids, 0, tail - head);
+                tail -= head;
+                head = 0;
+            } else {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+        }
+        ids[tail++] = id;
+    }
+
+    /**
+     * Drops all ids lower than the given id.
+     *
+     * @param oldestLiveId The lowest id that is still live
+     */
+    void trimBefore(long oldestLiveId) {
+        while (head < tail && ids[head] < oldestLiveId) {
+            head++;
+        }
+        if (head == tail) {
+            head = 0;
+            tail = 0;
+        }
+    }
+
+    int size() {
+        return tail - head;
+    }
+
+    long get(int index) {
+        return ids[head + index];
+    }
+}
@@ -0,0 +1,139 @@
+package com.azerite.cryptoairdropdiscovery.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton finding every keyword of a fixed set that occurs in a text, in one pass over the
+ * text regardless of how many keywords there are. Matching is by substring, like {@link String#contains}.
+ * Transitions are stored per state as sorted label and target arrays.
+ */
+final class KeywordAutomaton {
+
+    private static final int ROOT = 0;
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failure;
+    private final int[][] outputs;
+    private final int keywordCount;
+
+    /**
+     * Constructor for KeywordAutomaton.
+     *
+     * @param keywords The folded keywords; a keyword is identified by its position in the list
+     */
+    KeywordAutomaton(List<String> keywords) {
+        // Build the trie
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> terminal = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminal.add(new ArrayList<>());
+        for (int id = 0; id < keywords.size(); id++) {
+            String keyword = keywords.get(id);
+            if (keyword.isEmpty()) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                Integer next = trie.get(state).get(keyword.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(keyword.charAt(i), next);
+                    trie.add(new TreeMap<>());
+                    terminal.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            terminal.get(state).add(id);
+        }
+
+        int states = trie.size();
+        this.labels = new char[states][];
+        this.targets = new int[states][];
+        this.failure = new int[states];
+        this.outputs = new int[states][];
+        this.keywordCount = keywords.size();
+        for (int state = 0; state < states; state++) {
+            TreeMap<Character, Integer> edges = trie.get(state);
+            labels[state] = new char[edges.size()];
+            targets[state] = new int[edges.size()];
+            int i = 0;
+            for (var edge : edges.entrySet()) {
+                labels[state][i] = edge.getKey();
+                targets[state][i++] = edge.getValue();
+            }
+        }
+
+        // Breadth-first over the trie: link each state to its longest proper suffix that is also a prefix,
+        // and merge the keywords ending at that suffix into its outputs
+        Queue<Integer> queue = new ArrayDeque<>();
+        outputs[ROOT] = NO_OUTPUT;
+        for (int child : targets[ROOT]) {
+            failure[child] = ROOT;
+            outputs[child] = toArray(terminal.get(child), NO_OUTPUT);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < labels[state].length; i++) {
+                char c = labels[state][i];
+                int child = targets[state][i];
+                int fallback = failure[state];
+                while (fallback != ROOT && transition(fallback, c) < 0) {
+                    fallback = failure[fallback];
+                }
+                int suffix = transition(fallback, c);
+                failure[child] = suffix >= 0 && suffix != child ? suffix : ROOT;
+                outputs[child] = toArray(terminal.get(child), outputs[failure[child]]);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Finds the keywords occurring in a text.
+     *
+     * @param foldedText The folded text
+     * @return The ids of the keywords found
+     */
+    BitSet find(String foldedText) {
+        BitSet found = new BitSet(keywordCount);
+        int state = ROOT;
+        for (int i = 0; i < foldedText.length(); i++) {
+            char c = foldedText.charAt(i);
+            int next = transition(state, c);
+            while (next < 0 && state != ROOT) {
+                state = failure[state];
+                next = transition(state, c);
+            }
+            state = next < 0 ? ROOT : next;
+            for (int id : outputs[state]) {
+                found.set(id);
+            }
+        }
+        return found;
+    }
+
+    private int transition(int state, char c) {
+        int index = Arrays.binarySearch(labels[state], c);
+        return index >= 0 ? targets[state][index] : -1;
+    }
+
+    private static int[] toArray(List<Integer> own, int[] inherited) {
+        if (own.isEmpty()) {
+            return inherited;
+        }
+        int[] result = Arrays.copyOf(inherited, inherited.length + own.size());
+        for (int i = 0; i < own.size(); i++) {
+            result[inherited.length + i] = own.get(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,34 @@
+package com.azerite.cryptoairdropdiscovery.text;
+
+/**
+ * A tweet text together with its folded form, computed once per tweet.
+ * Instances are immutable and can be shared between threads.
+ */
+public class NormalizedText {
+
+    private final String original;
+    private final String folded;
+
+    NormalizedText(String original, String folded) {
+        this.original = original;
+        this.folded = folded;
+    }
+
+    public String getOriginal() {
+        return original;
+    }
+
+    public String getFolded() {
+        return folded;
+    }
+
+    /**
+     * Checks whether the folded text contains a folded keyword.
+     *
+     * @param foldedKeyword A keyword folded with {@link TextNormalizer#fold(String)}
+     * @return true if the keyword occurs anywhere in the text
+     */
+    public boolean contains(String foldedKeyword) {
+        return folded.contains(foldedKeyword);
+    }
+}
@@ -0,0 +1,80 @@
+package com.azerite.cryptoairdropdiscovery.text;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates several keyword profiles against a text in a single scan.
+ * The keywords of all profiles are folded and combined into one {@link KeywordAutomaton}, so each text is
+ * read once no matter how many profiles and keywords there are. A profile matches when at least one of its
+ * positive keywords occurs and none of its negative keywords does.
+ */
+public class ProfileMatcher {
+
+    /**
+     * Keywords of one profile.
+     *
+     * @param positive Keywords of which at least one must be present
+     * @param negative Keywords of which none may be present
+     */
+    public record Profile(Collection<String> positive, Collection<String> negative) {
+    }
+
+    private final KeywordAutomaton automaton;
+    private final BitSet[] positive;
+    private final BitSet[] negative;
+
+    /**
+     * Constructor for ProfileMatcher.
+     *
+     * @param profiles The profiles; a profile is identified by its position in the list
+     */
+    public ProfileMatcher(List<Profile> profiles) {
+        List<String> keywords = new ArrayList<>();
+        Map<String, Integer> ids = new HashMap<>();
+        this.positive = new BitSet[profiles.size()];
+        this.negative = new BitSet[profiles.size()];
+        for (int i = 0; i < profiles.size(); i++) {
+            positive[i] = keywordIds(profiles.get(i).positive(), keywords, ids);
+            negative[i] = keywordIds(profiles.get(i).negative(), keywords, ids);
+        }
+        this.automaton = new KeywordAutomaton(keywords);
+    }
+
+    /**
+     * Finds the profiles matching a text.
+     *
+     * @param text The normalized text
+     * @return The positions of the matching profiles
+     */
+    public BitSet match(NormalizedText text) {
+        BitSet found = automaton.find(text.getFolded());
+        BitSet matched = new BitSet(positive.length);
+        for (int i = 0; i < positive.length; i++) {
+            if (positive[i].intersects(found) && !negative[i].intersects(found)) {
+                matched.set(i);
+            }
+        }
+        return matched;
+    }
+
+    private static BitSet keywordIds(Collection<String> profileKeywords, List<String> keywords,
+                                     Map<String, Integer> ids) {
+        BitSet result = new BitSet();
+        for (String keyword : profileKeywords) {
+            String folded = TextNormalizer.fold(keyword);
+            if (folded.isEmpty()) {
+                continue;
+            }
+            result.set(ids.computeIfAbsent(folded, key -> {
+                keywords.add(key);
+                return keywords.size() - 1;
+            }));
+        }
+        return result;
+    }
+}
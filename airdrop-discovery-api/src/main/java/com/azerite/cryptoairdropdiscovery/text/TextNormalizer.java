@@ -0,0 +1,87 @@
+package com.azerite.cryptoairdropdiscovery.text;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Normalizes tweet text so keyword matching is independent of how the text was written.
+ * Folding applies Unicode NFKC (full-width and styled letters become plain ones), removes invisible
+ * characters such as zero-width spaces, lower cases without regard to the server locale and maps
+ * common Cyrillic and Greek look-alike letters to their Latin counterparts.
+ * Plain ASCII text, the common case, only needs lower casing and skips the Unicode steps.
+ */
+public final class TextNormalizer {
+
+    private static final int HOMOGLYPH_START = 0x0370;
+    private static final char[] HOMOGLYPHS = new char[0x0460 - HOMOGLYPH_START];
+
+    static {
+        // Lower case Greek and Cyrillic letters that look like Latin ones, as pairs of (look-alike, latin)
+        String pairs = "αaβbεeζzηhιiκkμmνvοoρpτtυuχx"
+                + "аaвbеeкkмmнhоoрpсcтtуyхxѕsіiјj";
+        for (int i = 0; i < pairs.length(); i += 2) {
+            HOMOGLYPHS[pairs.charAt(i) - HOMOGLYPH_START] = pairs.charAt(i + 1);
+        }
+    }
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Normalizes a text once so it can be shared by everything that inspects it.
+     *
+     * @param text The raw text
+     * @return The normalized text
+     */
+    public static NormalizedText normalize(String text) {
+        return new NormalizedText(text, fold(text));
+    }
+
+    /**
+     * Folds a text or keyword into the form used for matching.
+     *
+     * @param text The raw text
+     * @return The folded text
+     */
+    public static String fold(String text) {
+        if (isAscii(text)) {
+            return text.toLowerCase(Locale.ROOT);
+        }
+
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        StringBuilder folded = new StringBuilder(composed.length());
+        for (int i = 0; i < composed.length(); ) {
+            int codePoint = composed.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (isInvisible(codePoint)) {
+                continue;
+            }
+
+            codePoint = Character.toLowerCase(codePoint);
+            if (codePoint == 'ı') {
+                codePoint = 'i';
+            } else if (codePoint >= HOMOGLYPH_START && codePoint - HOMOGLYPH_START < HOMOGLYPHS.length
+                    && HOMOGLYPHS[codePoint - HOMOGLYPH_START] != 0) {
+                codePoint = HOMOGLYPHS[codePoint - HOMOGLYPH_START];
+            }
+            folded.appendCodePoint(codePoint);
+        }
+        return folded.toString();
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isInvisible(int codePoint) {
+        // Zero-width spaces and joiners, bidi controls, soft hyphens and emoji variation selectors
+        return Character.getType(codePoint) == Character.FORMAT
+                || (codePoint >= 0xFE00 && codePoint <= 0xFE0F);
+    }
+}
@@ -0,0 +1,273 @@
+package com.azerite.cryptoairdropdiscovery.bulk;
+
+import com.azerite.cryptoairdropdiscovery.cluster.ClusterCoordinator;
+import com.azerite.cryptoairdropdiscovery.lifecycle.ExpiryScheduler;
+import com.azerite.cryptoairdropdiscovery.config.AirdropDiscoveryProperties;
+import com.azerite.cryptoairdropdiscovery.model.AirdropStatus;
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import com.azerite.cryptoairdropdiscovery.service.AirdropDiscoveryService;
+import com.azerite.cryptoairdropdiscovery.service.WebhookNotifier;
+import com.azerite.cryptoairdropdiscovery.storage.InMemoryAirdropTweetStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkTransferServiceTest {
+
+    private static final int TWEETS = 2_500;
+    private static final int MAX_RECORD_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void exportAndImport_Ndjson_RoundTripsAllTweets() throws IOException {
+        assertRoundTrip(BulkFormat.NDJSON, false);
+    }
+
+    @Test
+    void exportAndImport_GzippedBinary_RoundTripsAllTweets() throws IOException {
+        assertRoundTrip(BulkFormat.BINARY, true);
+    }
+
+    @Test
+    void importFrom_Ndjson_IgnoresIdentifiers() throws IOException {
+        // Given
+        AirdropDiscoveryService target = service();
+        BulkTransferService bulk = new BulkTransferService(target, objectMapper, 10, MAX_RECORD_SIZE);
+        String ndjson = "{\"id\":99,\"title\":\"Airdrop\",\"source\":\"Twitter\",\"link\":\"https://x.com/1\","
+                + "\"rawText\":\"Follow and claim\"}\n";
+
+        // When
+        long imported = bulk.importFrom(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)),
+                BulkFormat.NDJSON, false);
+
+        // Then
+        assertEquals(1, imported);
+        assertEquals(1L, target.findPage(0, 10).get(0).getId());
+    }
+
+    @Test
+    void importFrom_RepeatedLinks_SkipsStoredTweets() throws IOException {
+        // Given
+        AirdropDiscoveryService target = service();
+        BulkTransferService bulk = new BulkTransferService(target, objectMapper, 10, MAX_RECORD_SIZE);
+        String ndjson = "{\"title\":\"Airdrop\",\"source\":\"Twitter\",\"link\":\"https://x.com/1\","
+                + "\"rawText\":\"Follow and claim\"}\n";
+
+        // When
+        long first = bulk.importFrom(new ByteArrayInputStream((ndjson + ndjson).getBytes(StandardCharsets.UTF_8)),
+                BulkFormat.NDJSON, false);
+        long second = bulk.importFrom(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)),
+                BulkFormat.NDJSON, false);
+
+        // Then
+        assertEquals(1, first);
+        assertEquals(0, second);
+        assertEquals(1, target.findPage(0, 10).size());
+    }
+
+    @Test
+    void importFrom_BinaryVersion1_ImportsActiveTweets() throws IOException {
+        // Given
+        AirdropDiscoveryService target = service();
+        BulkTransferService bulk = new BulkTransferService(target, objectMapper, 10, MAX_RECORD_SIZE);
+        ByteBuffer record = ByteBuffer.allocate(64).putInt(BinaryTweetCodec.MAGIC_V1).putInt(0);
+        for (String value : new String[]{"Airdrop", "Twitter", "https://x.com/1", null, "Follow and claim"}) {
+            if (value == null) {
+                record.putInt(-1);
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                record.putInt(bytes.length).put(bytes);
+            }
+        }
+        record.put((byte) 0);
+        record.putInt(Integer.BYTES, record.position() - 2 * Integer.BYTES);
+        byte[] input = Arrays.copyOf(record.array(), record.position());
+
+        // When
+        long imported = bulk.importFrom(new ByteArrayInputStream(input), BulkFormat.BINARY, false);
+
+        // Then
+        assertEquals(1, imported);
+        AirdropTweet tweet = target.findPage(0, 10).get(0);
+        assertEquals("https://x.com/1", tweet.getLink());
+        assertEquals(AirdropStatus.ACTIVE, tweet.getStatus());
+        assertNull(tweet.getExpiresAt());
+    }
+
+    @Test
+    void importFrom_BinaryWithWrongHeader_Throws() {
+        // Given
+        BulkTransferService bulk = new BulkTransferService(service(), objectMapper, 10, MAX_RECORD_SIZE);
+
+        // When & Then
+        assertThrows(IOException.class, () -> bulk.importFrom(
+                new ByteArrayInputStream("not binary".getBytes(StandardCharsets.UTF_8)), BulkFormat.BINARY, false));
+    }
+
+    @Test
+    void importFrom_BinaryWithOversizedRecord_ThrowsWithoutAllocating() {
+        // Given
+        BulkTransferService bulk = new BulkTransferService(service(), objectMapper, 10, MAX_RECORD_SIZE);
+        byte[] input = ByteBuffer.allocate(8).putInt(BinaryTweetCodec.MAGIC).putInt(Integer.MAX_VALUE).array();
+
+        // When & Then
+        assertThrows(IOException.class,
+                () -> bulk.importFrom(new ByteArrayInputStream(input), BulkFormat.BINARY, false));
+    }
+
+    @Test
+    void importFrom_BinaryWithCorruptFieldLength_ThrowsIOException() {
+        // Given
+        BulkTransferService bulk = new BulkTransferService(service(), objectMapper, 10, MAX_RECORD_SIZE);
+        byte[] overrun = ByteBuffer.allocate(16).putInt(BinaryTweetCodec.MAGIC).putInt(8)
+                .putInt(100).putInt(0).array();
+        byte[] underflow = ByteBuffer.allocate(10).putInt(BinaryTweetCodec.MAGIC).putInt(2)
+                .put((byte) 0).put((byte) 0).array();
+
+        // When & Then
+        assertThrows(IOException.class,
+                () -> bulk.importFrom(new ByteArrayInputStream(overrun), BulkFormat.BINARY, false));
+        assertThrows(IOException.class,
+                () -> bulk.importFrom(new ByteArrayInputStream(underflow), BulkFormat.BINARY, false));
+    }
+
+    @Test
+    void importFrom_MalformedAfterFirstBatches_ReportsImportedCount() {
+        // Given
+        AirdropDiscoveryService target = service();
+        BulkTransferService bulk = new BulkTransferService(target, objectMapper, 1, MAX_RECORD_SIZE);
+        String ndjson = "{\"title\":\"Airdrop\",\"source\":\"Twitter\",\"link\":\"https://x.com/1\","
+                + "\"rawText\":\"Follow and claim\"}\n"
+                + "{\"title\":\"Airdrop\",\"source\":\"Twitter\",\"link\":\"https://x.com/2\","
+                + "\"rawText\":\"Follow and claim\"}\n"
+                + "{\"title\":";
+
+        // When
+        BulkImportException exception = assertThrows(BulkImportException.class, () -> bulk.importFrom(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), BulkFormat.NDJSON, false));
+
+        // Then
+        assertEquals(2, exception.getImported());
+        assertEquals(2, target.findPage(0, 10).size());
+    }
+
+    @Test
+    void importFrom_NdjsonWithoutRequiredField_ReportsLine() {
+        // Given
+        AirdropDiscoveryService target = service();
+        BulkTransferService bulk = new BulkTransferService(target, objectMapper, 1, MAX_RECORD_SIZE);
+        String ndjson = "{\"title\":\"Airdrop\",\"source\":\"Twitter\",\"link\":\"https://x.com/1\","
+                + "\"rawText\":\"Follow and claim\"}\n"
+                + "{\"title\":\"Airdrop\",\"source\":\"Twitter\",\"link\":null,\"rawText\":\"Follow and claim\"}\n";
+
+        // When
+        BulkImportException exception = assertThrows(BulkImportException.class, () -> bulk.importFrom(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), BulkFormat.NDJSON, false));
+
+        // Then
+        assertEquals(1, exception.getImported());
+        assertTrue(exception.getCause().getMessage().contains("line 2"));
+        assertTrue(exception.getCause().getMessage().contains("link"));
+    }
+
+    @Test
+    void importFrom_BinaryWithNullRequiredField_ReportsOffset() {
+        // Given
+        AirdropDiscoveryService target = service();
+        BulkTransferService bulk = new BulkTransferService(target, objectMapper, 10, MAX_RECORD_SIZE);
+        ByteBuffer record = ByteBuffer.allocate(64).putInt(BinaryTweetCodec.MAGIC_V1).putInt(0);
+        for (String value : new String[]{"Airdrop", "Twitter", "https://x.com/1", null, null}) {
+            if (value == null) {
+                record.putInt(-1);
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                record.putInt(bytes.length).put(bytes);
+            }
+        }
+        record.put((byte) 0);
+        record.putInt(Integer.BYTES, record.position() - 2 * Integer.BYTES);
+        byte[] input = Arrays.copyOf(record.array(), record.position());
+
+        // When
+        BulkImportException exception = assertThrows(BulkImportException.class,
+                () -> bulk.importFrom(new ByteArrayInputStream(input), BulkFormat.BINARY, false));
+
+        // Then
+        assertEquals(0, exception.getImported());
+        assertTrue(exception.getCause().getMessage().contains("offset 4"));
+        assertTrue(exception.getCause().getMessage().contains("rawText"));
+        assertTrue(target.findPage(0, 10).isEmpty());
+    }
+
+    @Test
+    void fromName_IgnoresCase() {
+        assertEquals(BulkFormat.BINARY, BulkFormat.fromName("Binary"));
+        assertThrows(IllegalArgumentException.class, () -> BulkFormat.fromName("csv"));
+    }
+
+    private void assertRoundTrip(BulkFormat format, boolean gzip) throws IOException {
+        // Given
+        AirdropDiscoveryService source = service();
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 30, 15);
+        LocalDateTime expiresAt = createdAt.plusDays(7);
+        for (int i = 0; i < TWEETS; i++) {
+            source.importTweets(List.of(AirdropTweet.builder()
+                    .title("Airdrop " + i)
+                    .source("Twitter")
+                    .link("https://twitter.com/test/status/" + i)
+                    .tasks(i % 2 == 0 ? "- Follow\n- Claim" : null)
+                    .rawText("🪂 Airdrop " + i + ": follow and claim")
+                    .createdAt(createdAt)
+                    .status(i % 2 == 0 ? AirdropStatus.EXPIRED : AirdropStatus.ACTIVE)
+                    .expiresAt(i % 2 == 0 ? expiresAt : null)
+                    .profiles(i % 2 == 0 ? Set.of("defi") : Set.of())
+                    .build()));
+        }
+        AirdropDiscoveryService target = service();
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = new BulkTransferService(source, objectMapper, 100, MAX_RECORD_SIZE).exportTo(out, format, gzip);
+        long imported = new BulkTransferService(target, objectMapper, 100, MAX_RECORD_SIZE)
+                .importFrom(new ByteArrayInputStream(out.toByteArray()), format, gzip);
+
+        // Then
+        assertEquals(TWEETS, exported);
+        assertEquals(TWEETS, imported);
+        List<AirdropTweet> page = target.findPage(0, TWEETS);
+        assertEquals(TWEETS, page.size());
+        AirdropTweet first = page.get(0);
+        assertEquals("Airdrop 0", first.getTitle());
+        assertEquals("- Follow\n- Claim", first.getTasks());
+        assertEquals("🪂 Airdrop 0: follow and claim", first.getRawText());
+        assertEquals(createdAt, first.getCreatedAt());
+        assertEquals(AirdropStatus.EXPIRED, first.getStatus());
+        assertEquals(expiresAt, first.getExpiresAt());
+        assertEquals(Set.of("defi"), first.getProfiles());
+        assertNull(page.get(1).getTasks());
+        assertEquals(AirdropStatus.ACTIVE, page.get(1).getStatus());
+        assertNull(page.get(1).getExpiresAt());
+        assertTrue(page.get(1).getProfiles().isEmpty());
+    }
+
+    private AirdropDiscoveryService service() {
+        AirdropDiscoveryProperties properties = new AirdropDiscoveryProperties();
+        return new AirdropDiscoveryService(
+                new InMemoryAirdropTweetStore(10_000, Duration.ofDays(365 * 100), List.of()),
+                properties, new WebhookNotifier(properties, Runnable::run), ClusterCoordinator.standalone(),
+                ExpiryScheduler.disabled());
+    }
+}
@@ -0,0 +1,200 @@
+package com.azerite.cryptoairdropdiscovery.cluster;
+
+import com.azerite.cryptoairdropdiscovery.config.AirdropDiscoveryProperties;
+import com.azerite.cryptoairdropdiscovery.lifecycle.ExpiryScheduler;
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import com.azerite.cryptoairdropdiscovery.query.Since;
+import com.azerite.cryptoairdropdiscovery.service.AirdropDiscoveryService;
+import com.azerite.cryptoairdropdiscovery.service.AirdropDiscoveryStarter;
+import com.azerite.cryptoairdropdiscovery.service.WebhookNotifier;
+import com.azerite.cryptoairdropdiscovery.storage.InMemoryAirdropTweetStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClusterCoordinatorTest {
+
+    private LocalClusterTransport transport;
+    private RecordingStore sharedStore;
+    private AirdropDiscoveryService node0;
+    private AirdropDiscoveryService node1;
+
+    @BeforeEach
+    void setUp() {
+        transport = new LocalClusterTransport();
+        sharedStore = new RecordingStore();
+
+        node0 = node(0, clusterProperties());
+        node1 = node(1, clusterProperties());
+    }
+
+    @Test
+    void ownerOf_IsStableAndWithinNodeCount() {
+        // Given
+        ClusterCoordinator coordinator = new ClusterCoordinator(0, 3, new LocalClusterTransport(), 10);
+
+        // When
+        int owner = coordinator.ownerOf("https://twitter.com/test/status/123");
+
+        // Then
+        assertTrue(owner >= 0 && owner < 3);
+        assertEquals(owner, coordinator.ownerOf("https://twitter.com/test/status/123"));
+    }
+
+    @Test
+    void processTweet_SameLinkOnDifferentNodes_IsStoredOnce() {
+        // Given
+        String link = "https://twitter.com/test/status/123";
+        String text = "New airdrop! Follow us and claim your tokens.";
+
+        // When
+        AirdropTweet first = node0.processTweet(text, "Twitter", link);
+        AirdropTweet second = node1.processTweet(text, "Twitter", link);
+
+        // Then
+        assertNotNull(first);
+        assertNull(second);
+        assertEquals(1, sharedStore.findByKeyword("airdrop", Since.ALL).size());
+    }
+
+    @Test
+    void forwardIngest_ToOwningNode_RunsInsideTransaction() {
+        // When
+        AirdropTweet saved = transport.forwardIngest(1, "Follow and claim the new drop", "Twitter", linkOwnedBy(1, 0));
+
+        // Then
+        assertNotNull(saved);
+        assertEquals(List.of(true), sharedStore.savedInTransaction);
+    }
+
+    @Test
+    void getFilteredAirdrops_AfterSaveOnOtherNode_IsInvalidated() {
+        // Given
+        assertTrue(node1.getFilteredAirdrops().isEmpty());
+
+        // When
+        node0.processTweet("Follow and claim the new drop", "Twitter", "https://twitter.com/test/status/1");
+
+        // Then
+        assertEquals(1, node1.getFilteredAirdrops().size());
+    }
+
+    @Test
+    void getDataVersion_AfterSaveOnOtherNode_MatchesOnEveryNode() {
+        // When
+        node0.processTweet("Follow and claim the new drop", "Twitter", "https://twitter.com/test/status/1");
+
+        // Then
+        assertEquals(node0.getDataVersion(), node1.getDataVersion());
+    }
+
+    @Test
+    void updateKeywords_IsAppliedOnEveryNode() {
+        // When
+        node0.updateKeywords(Arrays.asList("quest"), Arrays.asList("fake"));
+
+        // Then
+        assertNotNull(transport.forwardIngest(1, "Complete the quest", "Twitter", linkOwnedBy(1, 0)));
+        assertNull(transport.forwardIngest(1, "Complete the fake quest", "Twitter", linkOwnedBy(1, 1)));
+        assertNull(transport.forwardIngest(1, "Follow and claim the new drop", "Twitter", linkOwnedBy(1, 2)));
+    }
+
+    @Test
+    void constructor_WithIndexOutsideCluster_Throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ClusterCoordinator(2, 2, new LocalClusterTransport(), 10));
+    }
+
+    /**
+     * Finds a link owned by a node, skipping the first matches.
+     */
+    private String linkOwnedBy(int nodeIndex, int skip) {
+        ClusterCoordinator coordinator = new ClusterCoordinator(0, 2, new LocalClusterTransport(), 10);
+        for (int i = 0; ; i++) {
+            String link = "https://twitter.com/test/status/" + i;
+            if (coordinator.ownerOf(link) == nodeIndex && skip-- == 0) {
+                return link;
+            }
+        }
+    }
+
+    /**
+     * Creates a node behind a transactional proxy and starts it the way the application context does.
+     */
+    private AirdropDiscoveryService node(int index, AirdropDiscoveryProperties properties) {
+        ClusterCoordinator coordinator = new ClusterCoordinator(index, 2, transport, 100);
+        ProxyFactory proxyFactory = new ProxyFactory(new AirdropDiscoveryService(sharedStore, properties,
+                new WebhookNotifier(properties, Runnable::run), coordinator, ExpiryScheduler.disabled()));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TransactionInterceptor(new LocalTransactionManager(),
+                new AnnotationTransactionAttributeSource()));
+        AirdropDiscoveryService service = (AirdropDiscoveryService) proxyFactory.getProxy();
+        new AirdropDiscoveryStarter(service, coordinator, ExpiryScheduler.disabled()).afterSingletonsInstantiated();
+        return service;
+    }
+
+    private AirdropDiscoveryProperties clusterProperties() {
+        AirdropDiscoveryProperties properties = new AirdropDiscoveryProperties();
+        properties.getCache().setFilteredResultsTtl(Duration.ofMinutes(5));
+        return properties;
+    }
+
+    /**
+     * Shared store recording whether each save ran inside a transaction.
+     */
+    private static class RecordingStore extends InMemoryAirdropTweetStore {
+
+        private final List<Boolean> savedInTransaction = new ArrayList<>();
+
+        RecordingStore() {
+            super(100, Duration.ofHours(24), List.of());
+        }
+
+        @Override
+        public AirdropTweet save(AirdropTweet airdropTweet) {
+            savedInTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return super.save(airdropTweet);
+        }
+    }
+
+    /**
+     * Transaction manager without a resource, joining any transaction already active on the thread.
+     */
+    private static class LocalTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return TransactionSynchronizationManager.isActualTransactionActive();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.azerite.cryptoairdropdiscovery.config;
+
+import com.azerite.cryptoairdropdiscovery.bulk.BulkTransferController;
+import com.azerite.cryptoairdropdiscovery.bulk.BulkTransferService;
+import com.azerite.cryptoairdropdiscovery.controller.AirdropController;
+import com.azerite.cryptoairdropdiscovery.controller.KeywordController;
+import com.azerite.cryptoairdropdiscovery.reactive.ReactiveAirdropController;
+import com.azerite.cryptoairdropdiscovery.service.AirdropDiscoveryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.web.reactive.DispatcherHandler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AirdropDiscoveryAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(AirdropDiscoveryAutoConfiguration.class))
+            .withPropertyValues(
+                    "azerite.airdrop-discovery.storage.type=memory",
+                    "azerite.airdrop-discovery.expiry.enabled=false");
+
+    @Test
+    void autoConfiguration_RegistersServiceAndController() {
+        contextRunner.run(context -> {
+            assertNull(context.getStartupFailure());
+            assertEquals(1, context.getBeanNamesForType(AirdropDiscoveryService.class).length);
+            assertEquals(1, context.getBeanNamesForType(AirdropController.class).length);
+        });
+    }
+
+    @Test
+    void reactiveController_WithWebFlux_IsRegistered() {
+        contextRunner.run(context ->
+                assertEquals(1, context.getBeanNamesForType(ReactiveAirdropController.class).length));
+    }
+
+    @Test
+    void reactiveController_WithoutWebFlux_IsNotRegistered() {
+        contextRunner.withClassLoader(new FilteredClassLoader(DispatcherHandler.class))
+                .run(context -> {
+                    assertNull(context.getStartupFailure());
+                    assertEquals(0, context.getBeanNamesForType(ReactiveAirdropController.class).length);
+                });
+    }
+
+    @Test
+    void bulkTransfer_IsOnlyRegisteredWhenEnabled() {
+        contextRunner.run(context -> {
+            assertEquals(0, context.getBeanNamesForType(BulkTransferService.class).length);
+            assertEquals(0, context.getBeanNamesForType(BulkTransferController.class).length);
+        });
+        contextRunner.withPropertyValues("azerite.airdrop-discovery.bulk.enabled=true").run(context -> {
+            assertEquals(1, context.getBeanNamesForType(BulkTransferService.class).length);
+            assertEquals(1, context.getBeanNamesForType(BulkTransferController.class).length);
+        });
+    }
+
+    @Test
+    void keywordController_IsOnlyRegisteredWhenEnabled() {
+        contextRunner.run(context ->
+                assertEquals(0, context.getBeanNamesForType(KeywordController.class).length));
+        contextRunner.withPropertyValues("azerite.airdrop-discovery.keyword-updates.enabled=true").run(context ->
+                assertEquals(1, context.getBeanNamesForType(KeywordController.class).length));
+    }
+
+    @Test
+    void clusterMode_WithMemoryStorage_FailsOnStartup() {
+        contextRunner.withPropertyValues("azerite.airdrop-discovery.cluster.enabled=true")
+                .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @Test
+    void autoConfiguration_WhenDisabled_RegistersNothing() {
+        contextRunner.withPropertyValues("azerite.airdrop-discovery.enabled=false")
+                .run(context -> assertEquals(0, context.getBeanNamesForType(AirdropDiscoveryService.class).length));
+    }
+}
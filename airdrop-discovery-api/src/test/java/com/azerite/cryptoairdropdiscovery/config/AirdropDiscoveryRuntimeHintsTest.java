@@ -0,0 +1,28 @@
+package com.azerite.cryptoairdropdiscovery.config;
+
+import com.azerite.cryptoairdropdiscovery.cluster.ClusterEvent;
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AirdropDiscoveryRuntimeHintsTest {
+
+    @Test
+    void registerHints_RegistersSerializedTypes() throws Exception {
+        // Given
+        RuntimeHints hints = new RuntimeHints();
+
+        // When
+        new AirdropDiscoveryRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // Then
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(AirdropTweet.class.getMethod("getRawText")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(ClusterEvent.class.getMethod("setType",
+                ClusterEvent.Type.class)).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onConstructor(AirdropTweet.UninitializedFilter.class
+                .getConstructor()).test(hints));
+    }
+}
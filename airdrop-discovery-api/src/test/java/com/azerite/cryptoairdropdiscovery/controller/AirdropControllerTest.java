@@ -2,6 +2,8 @@ package com.azerite.cryptoairdropdiscovery.controller;
 
 import com.azerite.cryptoairdropdiscovery.config.AirdropDiscoveryProperties;
 import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression;
+import com.azerite.cryptoairdropdiscovery.query.Since;
 import com.azerite.cryptoairdropdiscovery.service.AirdropDiscoveryService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,13 +15,19 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -107,7 +115,7 @@ class AirdropControllerTest {
                         .build()
         );
 
-        when(airdropDiscoveryService.getFilteredAirdrops()).thenReturn(airdrops);
+        when(airdropDiscoveryService.getFilteredAirdrops(Since.ALL)).thenReturn(airdrops);
 
         // When & Then
         mockMvc.perform(get("/airdrops/filtered"))
@@ -117,6 +125,101 @@ class AirdropControllerTest {
                 .andExpect(jsonPath("$[1].title", is("Airdrop 2")));
     }
 
+    @Test
+    void getFilteredAirdrops_WithProfile_ReturnsProfileAirdrops() throws Exception {
+        // Given
+        AirdropTweet airdropTweet = AirdropTweet.builder()
+                .id(7L)
+                .title("Bridge to the zk testnet")
+                .source("Twitter")
+                .link("https://twitter.com/test/status/777")
+                .rawText("Bridge to the zk testnet")
+                .profiles(Set.of("defi-team"))
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        when(airdropDiscoveryService.getDataVersion()).thenReturn("abc-1");
+        when(airdropDiscoveryService.getProfileAirdrops("defi-team", Since.ALL)).thenReturn(List.of(airdropTweet));
+
+        // When & Then
+        mockMvc.perform(get("/airdrops/filtered").param("profile", "defi-team"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].profiles[0]", is("defi-team")));
+
+        verify(airdropDiscoveryService, never()).getFilteredAirdrops(any());
+    }
+
+    @Test
+    void getFilteredAirdrops_UnknownProfile_ReturnsBadRequest() throws Exception {
+        // Given
+        doThrow(new IllegalArgumentException("Unknown keyword profile: nobody"))
+                .when(airdropDiscoveryService).requireProfile("nobody");
+
+        // When & Then
+        mockMvc.perform(get("/airdrops/filtered").param("profile", "nobody"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getFilteredAirdrops_UnknownProfileWithMatchingETag_ReturnsBadRequest() throws Exception {
+        // Given
+        when(airdropDiscoveryService.getDataVersion()).thenReturn("abc-1");
+        doThrow(new IllegalArgumentException("Unknown keyword profile: nobody"))
+                .when(airdropDiscoveryService).requireProfile("nobody");
+
+        // When & Then
+        mockMvc.perform(get("/airdrops/filtered").param("profile", "nobody").header("If-None-Match", "\"abc-1\""))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getFilteredAirdrops_ReturnsETag() throws Exception {
+        // Given
+        when(airdropDiscoveryService.getDataVersion()).thenReturn("abc-1");
+        when(airdropDiscoveryService.getFilteredAirdrops(Since.ALL)).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/airdrops/filtered"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc-1\""))
+                .andExpect(header().doesNotExist("Last-Modified"));
+    }
+
+    @Test
+    void getFilteredAirdrops_MatchingETag_ReturnsNotModified() throws Exception {
+        // Given
+        when(airdropDiscoveryService.getDataVersion()).thenReturn("abc-1");
+
+        // When & Then
+        mockMvc.perform(get("/airdrops/filtered").header("If-None-Match", "\"abc-1\""))
+                .andExpect(status().isNotModified());
+
+        verify(airdropDiscoveryService, never()).getFilteredAirdrops(any());
+    }
+
+    @Test
+    void getFilteredAirdrops_WithSinceId_PassesBoundToService() throws Exception {
+        // Given
+        List<AirdropTweet> airdrops = List.of(
+                AirdropTweet.builder().id(2L).title("Airdrop 2").createdAt(LocalDateTime.now()).build()
+        );
+        when(airdropDiscoveryService.getFilteredAirdrops(new Since(1L, null))).thenReturn(airdrops);
+
+        // When & Then
+        mockMvc.perform(get("/airdrops/filtered").param("since", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title", is("Airdrop 2")));
+    }
+
+    @Test
+    void getFilteredAirdrops_InvalidSince_ReturnsBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/airdrops/filtered").param("since", "yesterday"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void searchAirdrops_ReturnsMatchingAirdrops() throws Exception {
         // Given
@@ -132,7 +235,7 @@ class AirdropControllerTest {
                         .build()
         );
 
-        when(airdropDiscoveryService.searchByKeyword("mint")).thenReturn(searchResults);
+        when(airdropDiscoveryService.searchByKeyword("mint", Since.ALL)).thenReturn(searchResults);
 
         // When & Then
         mockMvc.perform(get("/airdrops/search").param("keyword", "mint"))
@@ -147,4 +250,55 @@ class AirdropControllerTest {
         mockMvc.perform(get("/airdrops/search").param("keyword", ""))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void queryAirdrops_ReturnsMatchingAirdrops() throws Exception {
+        // Given
+        List<AirdropTweet> results = List.of(
+                AirdropTweet.builder()
+                        .id(3L)
+                        .title("Mint the genesis pass")
+                        .source("Twitter")
+                        .link("https://twitter.com/test/status/321")
+                        .rawText("Mint the genesis pass")
+                        .createdAt(LocalDateTime.now())
+                        .build()
+        );
+
+        FilterExpression expression = new FilterExpression.Keyword("mint");
+        when(airdropDiscoveryService.getDataVersion()).thenReturn("abc-1");
+        when(airdropDiscoveryService.parseQuery("mint AND NOT scam")).thenReturn(expression);
+        when(airdropDiscoveryService.query(expression, Since.ALL)).thenReturn(results);
+
+        // When & Then
+        mockMvc.perform(get("/airdrops/query").param("q", "mint AND NOT scam"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title", is("Mint the genesis pass")));
+    }
+
+    @Test
+    void queryAirdrops_InvalidQuery_ReturnsBadRequest() throws Exception {
+        // Given
+        when(airdropDiscoveryService.parseQuery("(mint"))
+                .thenThrow(new IllegalArgumentException("Missing closing parenthesis"));
+
+        // When & Then
+        mockMvc.perform(get("/airdrops/query").param("q", "(mint"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void queryAirdrops_InvalidQueryWithMatchingETag_ReturnsBadRequest() throws Exception {
+        // Given
+        when(airdropDiscoveryService.getDataVersion()).thenReturn("abc-1");
+        when(airdropDiscoveryService.parseQuery("(mint"))
+                .thenThrow(new IllegalArgumentException("Missing closing parenthesis"));
+
+        // When & Then
+        mockMvc.perform(get("/airdrops/query").param("q", "(mint").header("If-None-Match", "\"abc-1\""))
+                .andExpect(status().isBadRequest());
+
+        verify(airdropDiscoveryService, never()).query(any(FilterExpression.class), any());
+    }
 } 
\ No newline at end of file
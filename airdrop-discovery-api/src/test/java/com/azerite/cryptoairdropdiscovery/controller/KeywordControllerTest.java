@@ -0,0 +1,61 @@
+package com.azerite.cryptoairdropdiscovery.controller;
+
+import com.azerite.cryptoairdropdiscovery.service.AirdropDiscoveryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(KeywordController.class)
+class KeywordControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AirdropDiscoveryService airdropDiscoveryService;
+
+    @Test
+    void updateKeywords_ValidPayload_UpdatesService() throws Exception {
+        // When & Then
+        mockMvc.perform(put("/airdrops/keywords")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"positive\":[\"galxe\",\"zk\"],\"negative\":[\"scam\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.positive", hasSize(2)));
+
+        verify(airdropDiscoveryService).updateKeywords(Arrays.asList("galxe", "zk"), Arrays.asList("scam"));
+    }
+
+    @Test
+    void updateKeywords_MissingList_ReturnsBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(put("/airdrops/keywords")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"positive\":[\"galxe\"]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void updateKeywords_NullKeyword_ReturnsBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(put("/airdrops/keywords")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"positive\":[\"galxe\",null],\"negative\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(airdropDiscoveryService, never()).updateKeywords(any(), any());
+    }
+}
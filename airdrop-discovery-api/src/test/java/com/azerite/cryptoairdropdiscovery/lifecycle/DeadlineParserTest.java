@@ -0,0 +1,59 @@
+package com.azerite.cryptoairdropdiscovery.lifecycle;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineParserTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 10, 18, 15, 30);
+
+    @Test
+    void parseDeadline_RelativeDeadlines_CountFromNow() {
+        assertEquals(Optional.of(NOW.plusHours(48)), DeadlineParser.parseDeadline("only 48h left to claim", NOW));
+        assertEquals(Optional.of(NOW.plusDays(3)), DeadlineParser.parseDeadline("3 days remaining!", NOW));
+        assertEquals(Optional.of(NOW.plusMinutes(90)), DeadlineParser.parseDeadline("quest ends in 90 mins", NOW));
+        assertEquals(Optional.of(NOW.plusWeeks(2)), DeadlineParser.parseDeadline("mint closes in 2 weeks", NOW));
+    }
+
+    @Test
+    void parseDeadline_Dates_EndWithTheDay() {
+        LocalDateTime endOfOct20 = LocalDateTime.of(2024, 10, 21, 0, 0);
+
+        assertEquals(Optional.of(endOfOct20), DeadlineParser.parseDeadline("campaign ends oct 20", NOW));
+        assertEquals(Optional.of(endOfOct20), DeadlineParser.parseDeadline("claim until october 20th.", NOW));
+        assertEquals(Optional.of(endOfOct20), DeadlineParser.parseDeadline("ends on 20 oct", NOW));
+        assertEquals(Optional.of(endOfOct20), DeadlineParser.parseDeadline("deadline: 2024-10-20", NOW));
+        assertEquals(Optional.of(LocalDateTime.of(2025, 11, 3, 0, 0)),
+                DeadlineParser.parseDeadline("ending nov 2, 2025", NOW));
+    }
+
+    @Test
+    void parseDeadline_DateEarlyInTheYear_RollsOverToNextYear() {
+        // Given
+        LocalDateTime december = LocalDateTime.of(2024, 12, 28, 12, 0);
+
+        // When & Then
+        assertEquals(Optional.of(LocalDateTime.of(2025, 1, 6, 0, 0)),
+                DeadlineParser.parseDeadline("snapshot ends jan 5", december));
+    }
+
+    @Test
+    void parseDeadline_WithoutDeadline_ReturnsEmpty() {
+        assertEquals(Optional.empty(), DeadlineParser.parseDeadline("follow and mint now", NOW));
+        assertEquals(Optional.empty(), DeadlineParser.parseDeadline("48 hours of hype, follow us", NOW));
+        assertEquals(Optional.empty(), DeadlineParser.parseDeadline("ends march madness 30", NOW));
+        assertEquals(Optional.empty(), DeadlineParser.parseDeadline("ends feb 30", NOW));
+    }
+
+    @Test
+    void statesEnded_DetectsEndAnnouncements() {
+        assertTrue(DeadlineParser.statesEnded("the zk airdrop has ended, thanks all"));
+        assertTrue(DeadlineParser.statesEnded("claim is now over"));
+        assertTrue(DeadlineParser.statesEnded("this quest is no longer live"));
+        assertFalse(DeadlineParser.statesEnded("claim before it ends oct 20"));
+    }
+}
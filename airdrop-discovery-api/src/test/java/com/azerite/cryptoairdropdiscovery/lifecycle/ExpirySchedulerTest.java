@@ -0,0 +1,96 @@
+package com.azerite.cryptoairdropdiscovery.lifecycle;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropStatus;
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import com.azerite.cryptoairdropdiscovery.storage.InMemoryAirdropTweetStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpirySchedulerTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-10-18T12:00:00Z"));
+
+    @Test
+    void tick_WhenDeadlineReached_ExpiresAirdropsAndNotifies() {
+        // Given
+        InMemoryAirdropTweetStore store = new InMemoryAirdropTweetStore(10, Duration.ofDays(30), List.of());
+        AirdropTweet airdropTweet = AirdropTweet.builder()
+                .title("Mint")
+                .source("Twitter")
+                .link("https://twitter.com/test/status/1")
+                .rawText("Mint now, 90 mins left")
+                .expiresAt(LocalDateTime.now(clock).plusMinutes(90))
+                .build();
+        store.save(airdropTweet);
+
+        ExpiryScheduler scheduler = new ExpiryScheduler(true, store, Duration.ofMinutes(1), 8,
+                Duration.ofHours(1), clock);
+        AtomicInteger notifications = new AtomicInteger();
+        scheduler.start(notifications::incrementAndGet);
+        scheduler.close();
+        scheduler.schedule(airdropTweet.getExpiresAt());
+
+        // When & Then
+        scheduler.tick();
+        assertEquals(AirdropStatus.ACTIVE, airdropTweet.getStatus());
+
+        clock.advance(Duration.ofMinutes(89));
+        scheduler.tick();
+        assertEquals(AirdropStatus.ACTIVE, airdropTweet.getStatus());
+        assertEquals(0, notifications.get());
+
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.tick();
+        assertEquals(AirdropStatus.EXPIRED, airdropTweet.getStatus());
+        assertEquals(1, notifications.get());
+    }
+
+    @Test
+    void disabled_NeverTouchesTheStore() {
+        // Given
+        ExpiryScheduler scheduler = ExpiryScheduler.disabled();
+
+        // When & Then
+        scheduler.start(() -> fail("Nothing should expire"));
+        scheduler.schedule(LocalDateTime.now().minusDays(1));
+        scheduler.close();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
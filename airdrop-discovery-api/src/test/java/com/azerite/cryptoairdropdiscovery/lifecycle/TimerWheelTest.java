@@ -0,0 +1,64 @@
+package com.azerite.cryptoairdropdiscovery.lifecycle;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimerWheelTest {
+
+    private static final long TICK = 1000;
+
+    @Test
+    void advance_ReturnsDeadlinesReachedSinceLastAdvance() {
+        // Given
+        TimerWheel wheel = new TimerWheel(TICK, 8, 0);
+        wheel.schedule(2500);
+        wheel.schedule(2500);
+        wheel.schedule(4000);
+
+        // When & Then
+        assertEquals(2, wheel.pending());
+        assertEquals(0, wheel.advance(2000));
+        assertEquals(1, wheel.advance(3000));
+        assertEquals(1, wheel.advance(4000));
+        assertEquals(0, wheel.pending());
+    }
+
+    @Test
+    void advance_KeepsDeadlinesBeyondOneRevolution() {
+        // Given
+        TimerWheel wheel = new TimerWheel(TICK, 4, 0);
+        wheel.schedule(2000);
+        wheel.schedule(6000);
+
+        // When & Then
+        assertEquals(1, wheel.advance(2000));
+        assertEquals(0, wheel.advance(5000));
+        assertEquals(1, wheel.advance(6000));
+    }
+
+    @Test
+    void advance_AfterLongPause_ExpiresEverythingDue() {
+        // Given
+        TimerWheel wheel = new TimerWheel(TICK, 4, 0);
+        wheel.schedule(1500);
+        wheel.schedule(3500);
+        wheel.schedule(60_000);
+
+        // When & Then
+        assertEquals(2, wheel.advance(20_000));
+        assertEquals(1, wheel.pending());
+    }
+
+    @Test
+    void schedule_PastDeadline_IsDueOnNextTick() {
+        // Given
+        TimerWheel wheel = new TimerWheel(TICK, 4, 10_000);
+
+        // When
+        wheel.schedule(1000);
+
+        // Then
+        assertEquals(1, wheel.advance(11_000));
+    }
+}
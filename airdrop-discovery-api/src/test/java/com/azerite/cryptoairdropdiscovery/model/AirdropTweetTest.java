@@ -0,0 +1,34 @@
+package com.azerite.cryptoairdropdiscovery.model;
+
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Keyword;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Source;
+import com.azerite.cryptoairdropdiscovery.query.FilterParser;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AirdropTweetTest {
+
+    @Test
+    void fold_StoresColumnsInTheFormOfFilterTerms() {
+        // Given
+        AirdropTweet tweet = AirdropTweet.builder()
+                .title("Mint")
+                .source(" Twitter ")
+                .link("https://twitter.com/test/status/1")
+                .rawText("\uFF2D\uFF29\uFF2E\uFF34 the n\u200Bew pass")
+                .build();
+        FilterParser parser = new FilterParser(512, 16, 8);
+
+        // When
+        tweet.fold();
+
+        // Then
+        Keyword keyword = (Keyword) parser.parse("mint");
+        Source source = (Source) parser.parse("source:TWITTER");
+        assertTrue(tweet.getFoldedText().contains(keyword.keyword()));
+        assertTrue(tweet.getFoldedText().contains("new"));
+        assertEquals(source.source(), tweet.getFoldedSource());
+        assertNull(tweet.getFoldedTasks());
+    }
+}
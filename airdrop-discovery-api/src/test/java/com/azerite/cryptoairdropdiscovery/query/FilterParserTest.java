@@ -0,0 +1,109 @@
+package com.azerite.cryptoairdropdiscovery.query;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropStatus;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.And;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.CreatedAfter;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Keyword;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Not;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Or;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Source;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Status;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression.Task;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilterParserTest {
+
+    private final FilterParser parser = new FilterParser(512, 16, 8);
+
+    @Test
+    void parse_OrdersConjunctionByCost() {
+        // When
+        FilterExpression expression = parser.parse("(Mint OR claim) AND NOT scam source:Twitter after:2024-10-01");
+
+        // Then
+        assertEquals(new And(List.of(
+                new Source("twitter"),
+                new CreatedAfter(LocalDateTime.of(2024, 10, 1, 0, 0)),
+                new Not(new Keyword("scam")),
+                new Or(List.of(new Keyword("mint"), new Keyword("claim"))))), expression);
+    }
+
+    @Test
+    void parse_AndBindsTighterThanOr() {
+        // When
+        FilterExpression expression = parser.parse("mint claim OR task:retweet");
+
+        // Then
+        assertEquals(new Or(List.of(
+                new Task("retweet"),
+                new And(List.of(new Keyword("mint"), new Keyword("claim"))))), expression);
+    }
+
+    @Test
+    void parse_FlattensNestingAndRemovesDoubleNegation() {
+        // When
+        FilterExpression expression = parser.parse("NOT NOT (mint AND (claim AND mint))");
+
+        // Then
+        assertEquals(new And(List.of(new Keyword("mint"), new Keyword("claim"))), expression);
+    }
+
+    @Test
+    void parse_MergesTimeBounds() {
+        // When
+        FilterExpression expression = parser.parse("mint after:2024-10-01 after:2024-10-05T12:00");
+
+        // Then
+        assertEquals(new And(List.of(
+                new CreatedAfter(LocalDateTime.of(2024, 10, 5, 12, 0)),
+                new Keyword("mint"))), expression);
+    }
+
+    @Test
+    void parse_QuotedPhraseAndFieldValue() {
+        // When
+        FilterExpression expression = parser.parse("\"join discord\" source:\"Crypto Twitter\"");
+
+        // Then
+        assertEquals(new And(List.of(new Source("crypto twitter"), new Keyword("join discord"))), expression);
+    }
+
+    @Test
+    void parse_WithDefaultStatus_RestrictsQueriesWithoutStatusTerm() {
+        // When
+        FilterExpression restricted = parser.parse("mint", AirdropStatus.ACTIVE);
+        FilterExpression explicit = parser.parse("mint NOT status:active", AirdropStatus.ACTIVE);
+
+        // Then
+        assertEquals(new And(List.of(new Status(AirdropStatus.ACTIVE), new Keyword("mint"))), restricted);
+        assertEquals(new And(List.of(new Not(new Status(AirdropStatus.ACTIVE)), new Keyword("mint"))), explicit);
+    }
+
+    @Test
+    void parse_InvalidQueries_Throw() {
+        assertThrows(IllegalArgumentException.class, () -> parser.parse(" "));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("(mint OR claim"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("mint AND"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("mint)"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("a"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("after:yesterday"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("source: twitter"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("status:paused"));
+    }
+
+    @Test
+    void parse_ExceedingLimits_Throws() {
+        // Given
+        FilterParser limited = new FilterParser(64, 3, 2);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> limited.parse("mint claim follow galxe"));
+        assertThrows(IllegalArgumentException.class, () -> limited.parse("((( mint )))"));
+        assertThrows(IllegalArgumentException.class, () -> limited.parse("mint " + "x".repeat(64)));
+    }
+}
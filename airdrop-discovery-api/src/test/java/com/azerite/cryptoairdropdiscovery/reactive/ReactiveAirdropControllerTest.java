@@ -0,0 +1,132 @@
+package com.azerite.cryptoairdropdiscovery.reactive;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import com.azerite.cryptoairdropdiscovery.service.AirdropDiscoveryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveAirdropControllerTest {
+
+    @Mock
+    private AirdropDiscoveryService airdropDiscoveryService;
+
+    private ReactiveAirdropController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new ReactiveAirdropController(airdropDiscoveryService);
+    }
+
+    @Test
+    void getFilteredAirdrops_StreamsAllResults() {
+        // Given
+        when(airdropDiscoveryService.getFilteredAirdropsPage(0, ReactiveAirdropController.PAGE_SIZE))
+                .thenReturn(Arrays.asList(airdrop(1L, "Airdrop 1"), airdrop(2L, "Airdrop 2")));
+
+        // When & Then
+        StepVerifier.create(controller.getFilteredAirdrops(), 1)
+                .expectNextMatches(tweet -> tweet.getTitle().equals("Airdrop 1"))
+                .thenRequest(1)
+                .expectNextMatches(tweet -> tweet.getTitle().equals("Airdrop 2"))
+                .verifyComplete();
+        verify(airdropDiscoveryService, times(1)).getFilteredAirdropsPage(anyLong(), anyInt());
+    }
+
+    @Test
+    void getFilteredAirdrops_FullPage_ContinuesAfterLastId() {
+        // Given
+        int pageSize = ReactiveAirdropController.PAGE_SIZE;
+        List<AirdropTweet> firstPage = new ArrayList<>();
+        for (long id = 1; id <= pageSize; id++) {
+            firstPage.add(airdrop(id, "Airdrop " + id));
+        }
+        when(airdropDiscoveryService.getFilteredAirdropsPage(0, pageSize)).thenReturn(firstPage);
+        when(airdropDiscoveryService.getFilteredAirdropsPage(pageSize, pageSize))
+                .thenReturn(List.of(airdrop(pageSize + 1L, "Last airdrop")));
+
+        // When & Then
+        StepVerifier.create(controller.getFilteredAirdrops())
+                .expectNextCount(pageSize)
+                .expectNextMatches(tweet -> tweet.getTitle().equals("Last airdrop"))
+                .verifyComplete();
+        verify(airdropDiscoveryService, times(2)).getFilteredAirdropsPage(anyLong(), anyInt());
+    }
+
+    @Test
+    void getFilteredAirdrops_DoesNotQueryUntilSubscribed() {
+        // When
+        controller.getFilteredAirdrops();
+
+        // Then
+        verify(airdropDiscoveryService, never()).getFilteredAirdropsPage(anyLong(), anyInt());
+    }
+
+    @Test
+    void searchAirdrops_StreamsMatchingPage() {
+        // Given
+        when(airdropDiscoveryService.searchByKeywordPage("mint", 0, ReactiveAirdropController.PAGE_SIZE))
+                .thenReturn(List.of(airdrop(3L, "Mint")));
+
+        // When & Then
+        StepVerifier.create(controller.searchAirdrops("mint"))
+                .expectNextMatches(tweet -> tweet.getTitle().equals("Mint"))
+                .verifyComplete();
+    }
+
+    @Test
+    void searchAirdrops_EmptyKeyword_ReturnsError() {
+        // When & Then
+        StepVerifier.create(controller.searchAirdrops(" "))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verify(airdropDiscoveryService, never()).searchByKeywordPage(anyString(), anyLong(), anyInt());
+    }
+
+    @Test
+    void getAirdrop_Existing_ReturnsOk() {
+        // Given
+        when(airdropDiscoveryService.findById(1L)).thenReturn(Optional.of(airdrop(1L, "Airdrop 1")));
+
+        // When & Then
+        StepVerifier.create(controller.getAirdrop(1L))
+                .expectNextMatches(response -> HttpStatus.OK.equals(response.getStatusCode())
+                        && response.getBody().getTitle().equals("Airdrop 1"))
+                .verifyComplete();
+    }
+
+    @Test
+    void getAirdrop_Missing_ReturnsNotFound() {
+        // Given
+        when(airdropDiscoveryService.findById(42L)).thenReturn(Optional.empty());
+
+        // When & Then
+        StepVerifier.create(controller.getAirdrop(42L))
+                .expectNextMatches(response -> HttpStatus.NOT_FOUND.equals(response.getStatusCode()))
+                .verifyComplete();
+    }
+
+    private AirdropTweet airdrop(Long id, String title) {
+        return AirdropTweet.builder()
+                .id(id)
+                .title(title)
+                .source("Twitter")
+                .link("https://twitter.com/test/status/" + id)
+                .rawText(title + ": Follow and Claim")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -1,8 +1,14 @@
 package com.azerite.cryptoairdropdiscovery.service;
 
+import com.azerite.cryptoairdropdiscovery.cluster.ClusterCoordinator;
 import com.azerite.cryptoairdropdiscovery.config.AirdropDiscoveryProperties;
+import com.azerite.cryptoairdropdiscovery.lifecycle.ExpiryScheduler;
+import com.azerite.cryptoairdropdiscovery.model.AirdropStatus;
 import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression;
+import com.azerite.cryptoairdropdiscovery.query.Since;
 import com.azerite.cryptoairdropdiscovery.repository.AirdropTweetRepository;
+import com.azerite.cryptoairdropdiscovery.storage.JpaAirdropTweetStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,10 +16,15 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,8 +46,10 @@ class AirdropDiscoveryServiceTest {
         when(properties.getKeywords()).thenReturn(keywords);
         when(keywords.getPositive()).thenReturn(Arrays.asList("follow", "mint", "galxe", "zk", "claim"));
         when(keywords.getNegative()).thenReturn(Arrays.asList("scam", "ended"));
+        when(properties.getCache()).thenReturn(new AirdropDiscoveryProperties.Cache());
+        when(properties.getQuery()).thenReturn(new AirdropDiscoveryProperties.Query());
 
-        service = new AirdropDiscoveryService(repository, properties);
+        service = newService();
     }
 
     @Test
@@ -88,6 +101,90 @@ class AirdropDiscoveryServiceTest {
         verify(repository, never()).save(any());
     }
 
+    @Test
+    void processTweet_WithFullWidthAndDecoratedKeyword_ShouldSaveTweet() {
+        // Given
+        String tweetText = "\uD83E\uDE82ＣＬＡＩＭ your tokens now";
+        when(repository.save(any(AirdropTweet.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        AirdropTweet result = service.processTweet(tweetText, "Twitter", "https://twitter.com/test/status/124");
+
+        // Then
+        assertNotNull(result);
+        assertEquals(tweetText, result.getRawText());
+        assertNotNull(result.getNormalizedText());
+    }
+
+    @Test
+    void processTweet_WithHomoglyphExclusionKeyword_ShouldNotSaveTweet() {
+        // Given
+        String tweetText = "Claim now, this is not a \u0455\u0441\u0430m";
+
+        // When
+        AirdropTweet result = service.processTweet(tweetText, "Twitter", "https://twitter.com/test/status/125");
+
+        // Then
+        assertNull(result);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void processTweet_WithDeadline_ShouldSaveActiveTweetWithExpiry() {
+        // Given
+        String tweetText = "Galxe campaign is live, mint your pass. 48h left!";
+        when(repository.save(any(AirdropTweet.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        AirdropTweet result = service.processTweet(tweetText, "Twitter", "https://twitter.com/test/status/48");
+
+        // Then
+        assertNotNull(result);
+        assertEquals(AirdropStatus.ACTIVE, result.getStatus());
+        assertFalse(result.getExpiresAt().isBefore(before.plusHours(48)));
+        assertTrue(result.getExpiresAt().isBefore(LocalDateTime.now().plusHours(48).plusSeconds(1)));
+    }
+
+    @Test
+    void processTweet_MatchingOnlyAProfile_ShouldSaveTweetWithProfile() {
+        // Given
+        AirdropDiscoveryProperties.Keywords defi = new AirdropDiscoveryProperties.Keywords();
+        defi.setPositive(List.of("bridge", "liquidity"));
+        defi.setNegative(List.of("scam"));
+        AirdropDiscoveryProperties.Keywords nft = new AirdropDiscoveryProperties.Keywords();
+        nft.setPositive(List.of("whitelist"));
+        nft.setNegative(List.of("scam"));
+        when(properties.getProfiles()).thenReturn(Map.of("defi", defi, "nft", nft));
+        when(repository.save(any(AirdropTweet.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        AirdropTweet saved = service.processTweet("Bridge to the Nova testnet and provide liquidity",
+                "Twitter", "https://twitter.com/test/status/900");
+        AirdropTweet ignored = service.processTweet("Bridge scam, do not touch",
+                "Twitter", "https://twitter.com/test/status/901");
+
+        // Then
+        assertNotNull(saved);
+        assertEquals(Set.of("defi"), saved.getProfiles());
+        assertNull(ignored);
+        verify(repository, times(1)).save(any(AirdropTweet.class));
+    }
+
+    @Test
+    void processTweet_WithStoredLink_ShouldNotSaveTweet() {
+        // Given
+        String link = "https://twitter.com/test/status/123";
+        when(repository.existsByLink(link)).thenReturn(true);
+
+        // When
+        AirdropTweet result = service.processTweet("New airdrop! Follow us and claim your tokens.", "Twitter", link);
+
+        // Then
+        assertNull(result);
+        verify(repository, never()).save(any());
+    }
+
     @Test
     void processTweet_WithNoAirdropKeyword_ShouldNotSaveTweet() {
         // Given
@@ -117,4 +214,54 @@ class AirdropDiscoveryServiceTest {
         assertNull(result);
         verify(repository, never()).save(any());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getFilteredAirdrops_WithoutPositiveKeywords_FiltersByBuiltInKeywords() {
+        // Given
+        when(keywords.getPositive()).thenReturn(List.of());
+        service = newService();
+        ArgumentCaptor<FilterExpression> filterCaptor = ArgumentCaptor.forClass(FilterExpression.class);
+
+        // When
+        service.getFilteredAirdrops();
+
+        // Then
+        verify(repository).findAllByFilter(filterCaptor.capture(), eq(Since.ALL));
+        assertEquals(new FilterExpression.And(List.of(new FilterExpression.Status(AirdropStatus.ACTIVE),
+                FilterExpression.keywords(AirdropDiscoveryProperties.Keywords.DEFAULT_POSITIVE,
+                        AirdropDiscoveryProperties.Keywords.DEFAULT_NEGATIVE))), filterCaptor.getValue());
+    }
+
+    @Test
+    void importTweets_ChecksStoredLinksInOneQuery() {
+        // Given
+        AirdropTweet stored = importedTweet("https://x.com/1");
+        AirdropTweet fresh = importedTweet("https://x.com/2");
+        AirdropTweet repeated = importedTweet("https://x.com/2");
+        when(repository.findExistingLinks(any())).thenReturn(Set.of("https://x.com/1"));
+        when(repository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<AirdropTweet> imported = service.importTweets(List.of(stored, fresh, repeated));
+
+        // Then
+        assertEquals(List.of(fresh), imported);
+        verify(repository).findExistingLinks(Set.of("https://x.com/1", "https://x.com/2"));
+        verify(repository, never()).existsByLink(any());
+    }
+
+    private AirdropTweet importedTweet(String link) {
+        return AirdropTweet.builder()
+                .title("Airdrop")
+                .source("Twitter")
+                .link(link)
+                .rawText("Follow and claim")
+                .build();
+    }
+
+    private AirdropDiscoveryService newService() {
+        return new AirdropDiscoveryService(new JpaAirdropTweetStore(repository), properties,
+                new WebhookNotifier(properties, Runnable::run), ClusterCoordinator.standalone(),
+                ExpiryScheduler.disabled());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,165 @@
+package com.azerite.cryptoairdropdiscovery.storage;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitInterceptorTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitInterceptorTest.class);
+
+    private static final int POOL_SIZE = 10;
+    private static final int REQUESTS = 5_000;
+
+    @Test
+    void invoke_OnManyVirtualThreads_NeverChecksOutMoreConnectionsThanPoolSize() throws Exception {
+        // Given
+        PooledTransactionManager transactionManager = new PooledTransactionManager();
+        Ingest ingest = proxy(transactionManager, new ConcurrencyLimitInterceptor(POOL_SIZE));
+
+        // When
+        long start = System.nanoTime();
+        runConcurrently(ingest);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        log.info("Ran {} transactions from {} virtual threads over a pool of {} in {}s ({} tx/s)",
+                REQUESTS, REQUESTS, POOL_SIZE, String.format("%.2f", seconds), Math.round(REQUESTS / seconds));
+
+        // Then
+        assertEquals(REQUESTS, transactionManager.committed.get());
+        assertTrue(transactionManager.maxInUse.get() <= POOL_SIZE,
+                "At most " + POOL_SIZE + " connections in use, was " + transactionManager.maxInUse.get());
+    }
+
+    @Test
+    void invoke_WithoutLimit_ChecksOutMoreConnectionsThanPoolSize() throws Exception {
+        // Given
+        PooledTransactionManager transactionManager = new PooledTransactionManager();
+        Ingest ingest = proxy(transactionManager);
+
+        // When
+        runConcurrently(ingest);
+
+        // Then
+        assertTrue(transactionManager.maxInUse.get() > POOL_SIZE);
+    }
+
+    @Test
+    void invoke_InsideActiveTransaction_DoesNotTakeAnotherPermit() {
+        // Given
+        PooledTransactionManager transactionManager = new PooledTransactionManager();
+        Ingest ingest = proxy(transactionManager, new ConcurrencyLimitInterceptor(1));
+
+        // When & Then
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> ingest.saveNested(ingest));
+        assertEquals(1, transactionManager.committed.get());
+    }
+
+    @Test
+    void constructor_WithNonPositiveLimit_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimitInterceptor(0));
+    }
+
+    private void runConcurrently(Ingest ingest) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(ingest::save));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    /**
+     * Proxies an Ingest with the given interceptors ahead of a transaction interceptor.
+     */
+    private Ingest proxy(PooledTransactionManager transactionManager, MethodInterceptor... interceptors) {
+        ProxyFactory proxyFactory = new ProxyFactory(new Ingest());
+        proxyFactory.setProxyTargetClass(true);
+        for (MethodInterceptor interceptor : interceptors) {
+            proxyFactory.addAdvice(interceptor);
+        }
+        proxyFactory.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+        return (Ingest) proxyFactory.getProxy();
+    }
+
+    /**
+     * Transactional service simulating a blocking JDBC call.
+     */
+    static class Ingest {
+
+        @Transactional
+        public void save() {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Transactional
+        public void saveNested(Ingest self) {
+            self.save();
+        }
+    }
+
+    /**
+     * Transaction manager checking out one connection of a fixed size pool per transaction.
+     */
+    private static class PooledTransactionManager extends AbstractPlatformTransactionManager {
+
+        private final AtomicInteger inUse = new AtomicInteger();
+        private final AtomicInteger maxInUse = new AtomicInteger();
+        private final AtomicInteger committed = new AtomicInteger();
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return TransactionSynchronizationManager.isActualTransactionActive();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            committed.incrementAndGet();
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            inUse.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.azerite.cryptoairdropdiscovery.storage;
+
+import com.azerite.cryptoairdropdiscovery.model.AirdropStatus;
+import com.azerite.cryptoairdropdiscovery.model.AirdropTweet;
+import com.azerite.cryptoairdropdiscovery.query.FilterExpression;
+import com.azerite.cryptoairdropdiscovery.query.FilterParser;
+import com.azerite.cryptoairdropdiscovery.query.Since;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryAirdropTweetStoreTest {
+
+    private static final List<String> KEYWORDS = Arrays.asList("follow", "mint", "claim", "scam", "ended");
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-03-01T12:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    void save_AssignsAscendingIds() {
+        // Given
+        InMemoryAirdropTweetStore store = new InMemoryAirdropTweetStore(10, Duration.ofHours(24), KEYWORDS, clock);
+
+        // When
+        AirdropTweet first = store.save(tweet("Follow us"));
+        AirdropTweet second = store.save(tweet("Mint now"));
+
+        // Then
+        assertEquals(1L, first.getId());
+        assertEquals(2L, second.getId());
+        assertNotNull(first.getCreatedAt());
+    }
+
+    @Test
+    void findFiltered_WithIndexedKeywords_ExcludesNegativeMatches() {
+        // Given
+        InMemoryAirdropTweetStore store = new InMemoryAirdropTweetStore(10, Duration.ofHours(24), KEYWORDS, clock);
+        store.save(tweet("Follow and claim your tokens"));
+        store.save(tweet("Mint has ended"));
+        store.save(tweet("Just a regular tweet"));
+        store.save(tweet("MINT is live"));
+
+        // When
+        List<AirdropTweet> results = store.findFiltered(Arrays.asList("follow", "mint"), Arrays.asList("ended"), Since.ALL);
+
+        // Then
+        assertEquals(2, results.size());
+        assertEquals("Follow and claim your tokens", results.get(0).getRawText());
+        assertEquals("MINT is live", results.get(1).getRawText());
+    }
+
+    @Test
+    void findFiltered_WithUnindexedKeywords_FallsBackToScan() {
+        // Given
+        InMemoryAirdropTweetStore store = new InMemoryAirdropTweetStore(10, Duration.ofHours(24), KEYWORDS, clock);
+        store.save(tweet("Galxe quest is open"));
+        store.save(tweet("Follow us"));
+
+        // When
+        List<AirdropTweet> results = store.findFiltered(Arrays.asList("galxe"), Arrays.asList("scam"), Since.ALL);
+
+        // Then
+        assertEquals(1, results.size());
+        assertEquals("Galxe quest is open", results.get(0).getRawText());
+    }
+
+    @Test
+    void findByKeyword_WhenCapacityExceeded_EvictsOldestTweets() {
+        // Given
+        InMemoryAirdropTweetStore store = new InMemoryAirdropTweetStore(2, Duration.ofHours(24), KEYWORDS, clock);
+        store.save(tweet("Follow one"));
+        store.save(tweet("Follow two"));
+        store.save(tweet("Follow three"));
+
+        // When
+        List<AirdropTweet> indexed = store.findByKeyword("FOLLOW", Since.ALL);
+        List<AirdropTweet> scanned = store.findByKeyword("one", Since.ALL);
+
+        // Then
+        assertEquals(2, indexed.size());
+        assertEquals("Follow two", indexed.get(0).getRawText());
+        assertTrue(scanned.isEmpty());
+    }
+
+    @Test
+    void findByKeyword_ExcludesTweetsOutsideRetention() {
+        // Given
+        InMemoryAirdropTweetStore store = new InMemoryAirdropTweetStore(10, Duration.ofHours(24), KEYWORDS, clock);
+        AirdropTweet old = tweet("Follow the old campaign");
+        old.setCreatedAt(LocalDateTime.now(clock).minusHours(25));
+        store.save(old);
+        store.save(tweet("Follow the new campaign"));
+
+        // When
+        List<AirdropTweet> results = store.findByKeyword("follow", Since.ALL);
+
+        // Then
+        assertEquals(1, results.size());
+        assertEquals("Follow the new campaign", results.get(0).getRawText());
+    }
+
+    @Test
+    void findFiltered_WithSince_ReturnsOnlyNewerTweets() {
+        // Given
+        InMemoryAirdropTweetStore store = new InMemoryAirdropTweetStore(10, Duration.ofHours(24), KEYWORDS, clock);
+        store.save(tweet("Mint the first pass"));
+        store.save(tweet("Mint the second pass"));
+        store.save(tweet("Galxe quest, mint now"));
+
+        // When
+        List<AirdropTweet> indexed = store.findFiltered(List.of("mint"), List.of("scam"), new Since(1L, null));
+        List<AirdropTweet> scanned = store.findFiltered(List.of("galxe"), List.of("scam"), new Since(3L, null));
+
+        // Then
+        assertEquals(List.of(2L, 3L), indexed.stream().map(AirdropTweet::getId).toList());
+        assertTrue(scanned.isEmpty());
+    }
+
+    @Test
+    void findMatching_ReturnsNewestMatchesUpToLimit() {
+        // Given
+        InMemoryAirdropTweetStore store = new InMemoryAirdropTweetStore(10, Duration.ofHours(24), KEYWORDS, clock);
+        store.save(tweet("Mint the first pass"));
+        store.save(tweet("Claim has ended"));
+        store.save(tweet("Galxe quest, claim now"));
+        store.save(tweet("Mint the second pass"));
+        store.save(tweet("Just a regular tweet"));
+
+        // When
+        List<AirdropTweet> results = store.findMatching(
+                new FilterParser(512, 16, 8).parse("(mint OR claim) AND NOT ended source:twitter"), Since.ALL, 2);
+
+        // Then
+        assertEquals(2, results.size());
+        assertEquals("Mint the second pass", results.get(0).getRawText());
+        assertEquals("Galxe quest, claim now", results.get(1).getRawText());
+    }
+
+    @Test
+    void findMatchingAfter_ReturnsPagesInIdOrder() {
+        // Given
+        InMemoryAirdropTweetStore store = new InMemoryAirdropTweetStore(10, Duration.ofHours(24), KEYWORDS, clock);
+        store.save(tweet("Mint the first pass"));
+        store.save(tweet("Just a regular tweet"));
+        store.save(tweet("Mint the second pass"));
+        store.save(tweet("Mint the third pass"));
+        FilterExpression filter = FilterExpression.keywords(List.of("mint"), List.of("scam"));
+
+        // When
+        List<AirdropTweet> firstPage = store.findMatchingAfter(filter, 0, 2);
+        List<AirdropTweet> secondPage = store.findMatchingAfter(filter, firstPage.get(1).getId(), 2);
+
+        // Then
+        assertEquals(List.of(1L, 3L), firstPage.stream().map(AirdropTweet::getId).toList());
+        assertEquals(List.of(4L), secondPage.stream().map(AirdropTweet::getId).toList());
+    }
+
+    @Test
+    void expireDue_ExpiresOnlyDueTweetsAndHidesThemFromDefaultReads() {
+        // Given
+        InMemoryAirdropTweetStore store = new InMemoryAirdropTweetStore(10, Duration.ofHours(24), KEYWORDS, clock);
+        LocalDateTime now = LocalDateTime.now(clock);
+        AirdropTweet due = tweet("Mint before the deadline");
+        due.setExpiresAt(now.minusMinutes(1));
+        AirdropTweet later = tweet("Mint next week");
+        later.setExpiresAt(now.plusDays(7));
+        store.save(due);
+        store.save(later);
+        store.save(tweet("Mint anytime"));
+
+        // When
+        int expired = store.expireDue(now);
+
+        // Then
+        assertEquals(1, expired);
+        assertEquals(0, store.expireDue(now));
+        assertEquals(AirdropStatus.EXPIRED, store.findById(due.getId()).orElseThrow().getStatus());
+        assertEquals(2, store.findByKeyword("mint", Since.ALL).size());
+        assertEquals(2, store.findFiltered(List.of("mint"), List.of("scam"), Since.ALL).size());
+        assertEquals(List.of(due), store.findMatching(new FilterParser(512, 16, 8).parse("mint status:expired"), Since.ALL, 10));
+    }
+
+    @Test
+    void save_WhenCapacityExceeded_DropsDeadlinesOfEvictedTweets() {
+        // Given
+        InMemoryAirdropTweetStore store = new InMemoryAirdropTweetStore(2, Duration.ofHours(24), KEYWORDS, clock);
+        LocalDateTime deadline = LocalDateTime.now(clock).plusDays(1);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            AirdropTweet tweet = tweet("Mint before the deadline " + i);
+            tweet.setExpiresAt(deadline);
+            store.save(tweet);
+        }
+
+        // Then
+        assertEquals(2, store.pendingDeadlines());
+        assertEquals(2, store.expireDue(deadline));
+    }
+
+    @Test
+    void findByProfile_ReturnsActiveTweetsOfTheProfile() {
+        // Given
+        InMemoryAirdropTweetStore store = new InMemoryAirdropTweetStore(10, Duration.ofHours(24), KEYWORDS, clock);
+        AirdropTweet first = tweet("Bridge to the testnet");
+        first.setProfiles(Set.of("defi"));
+        AirdropTweet both = tweet("Bridge and whitelist mint");
+        both.setProfiles(Set.of("defi", "nft"));
+        AirdropTweet expired = tweet("Bridge campaign");
+        expired.setProfiles(Set.of("defi"));
+        expired.setStatus(AirdropStatus.EXPIRED);
+        store.save(first);
+        store.save(both);
+        store.save(expired);
+        store.save(tweet("Follow and claim"));
+
+        // When & Then
+        assertEquals(List.of(first, both), store.findByProfile("defi", Since.ALL));
+        assertEquals(List.of(both), store.findByProfile("nft", Since.ALL));
+        assertTrue(store.findByProfile("unknown", Since.ALL).isEmpty());
+    }
+
+    @Test
+    void findExistingLinks_ReturnsOnlyStoredLinks() {
+        // Given
+        InMemoryAirdropTweetStore store = new InMemoryAirdropTweetStore(10, Duration.ofHours(24), KEYWORDS, clock);
+        AirdropTweet first = store.save(tweet("Follow us"));
+        AirdropTweet second = store.save(tweet("Mint now"));
+
+        // When
+        Set<String> existing = store.findExistingLinks(
+                List.of(first.getLink(), second.getLink(), "https://twitter.com/test/status/unknown"));
+
+        // Then
+        assertEquals(Set.of(first.getLink(), second.getLink()), existing);
+    }
+
+    private AirdropTweet tweet(String text) {
+        return AirdropTweet.builder()
+                .title(text)
+                .source("Twitter")
+                .link("https://twitter.com/test/status/" + text.hashCode())
+                .rawText(text)
+                .build();
+    }
+}
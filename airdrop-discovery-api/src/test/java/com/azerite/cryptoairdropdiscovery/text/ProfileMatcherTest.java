@@ -0,0 +1,73 @@
+package com.azerite.cryptoairdropdiscovery.text;
+
+import com.azerite.cryptoairdropdiscovery.text.ProfileMatcher.Profile;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProfileMatcherTest {
+
+    @Test
+    void match_EvaluatesEveryProfileInOnePass() {
+        // Given
+        ProfileMatcher matcher = new ProfileMatcher(List.of(
+                new Profile(List.of("follow", "mint", "claim"), List.of("scam", "ended")),
+                new Profile(List.of("bridge", "liquidity"), List.of("scam")),
+                new Profile(List.of("whitelist", "MINT"), List.of())));
+
+        // When
+        BitSet mint = matcher.match(TextNormalizer.normalize("Ｍｉｎｔ the pass and bridge to mainnet"));
+        BitSet scam = matcher.match(TextNormalizer.normalize("Claim now! Bridge scam alert"));
+        BitSet ended = matcher.match(TextNormalizer.normalize("Whitelist mint has ended"));
+        BitSet none = matcher.match(TextNormalizer.normalize("Gas is low today"));
+
+        // Then
+        assertEquals(BitSet.valueOf(new long[]{0b111}), mint);
+        assertTrue(scam.isEmpty());
+        assertEquals(BitSet.valueOf(new long[]{0b100}), ended);
+        assertTrue(none.isEmpty());
+    }
+
+    @Test
+    void match_FindsDecoratedKeywords() {
+        // Given
+        ProfileMatcher matcher = new ProfileMatcher(List.of(new Profile(List.of("Airdrop", "GALXE"), List.of())));
+
+        // When & Then
+        assertTrue(matcher.match(TextNormalizer.normalize("🪂AIRDROP is live")).get(0));
+        assertTrue(matcher.match(TextNormalizer.normalize("Quest on ｇａｌｘｅ")).get(0));
+        assertFalse(matcher.match(TextNormalizer.normalize("Just a regular tweet")).get(0));
+    }
+
+    @Test
+    void match_OverlappingKeywords_AgreesWithContains() {
+        // Given
+        List<String> keywords = List.of("he", "she", "his", "hers", "ab", "bab", "abab", "b", "zk", "zksync");
+        List<Profile> profiles = new ArrayList<>();
+        for (String keyword : keywords) {
+            profiles.add(new Profile(List.of(keyword), List.of()));
+        }
+        ProfileMatcher matcher = new ProfileMatcher(profiles);
+        Random random = new Random(42);
+
+        for (int run = 0; run < 2000; run++) {
+            StringBuilder text = new StringBuilder();
+            for (int i = random.nextInt(20); i > 0; i--) {
+                text.append("abehiksrnyz ".charAt(random.nextInt(12)));
+            }
+
+            // When
+            BitSet matched = matcher.match(TextNormalizer.normalize(text.toString()));
+
+            // Then
+            for (int i = 0; i < keywords.size(); i++) {
+                assertEquals(text.toString().contains(keywords.get(i)), matched.get(i), text + " / " + keywords.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.azerite.cryptoairdropdiscovery.text;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextNormalizerTest {
+
+    @Test
+    void fold_PlainAscii_LowerCases() {
+        assertEquals("new airdrop! follow us", TextNormalizer.fold("New AIRDROP! Follow us"));
+    }
+
+    @Test
+    void fold_FullWidthCharacters_BecomeAscii() {
+        assertEquals("airdrop claim", TextNormalizer.fold("ＡＩＲＤＲＯＰ ｃｌａｉｍ"));
+    }
+
+    @Test
+    void fold_ZeroWidthCharacters_AreRemoved() {
+        assertEquals("airdrop", TextNormalizer.fold("AIR\u200BDR\u200DOP\uFEFF"));
+    }
+
+    @Test
+    void fold_Homoglyphs_MapToLatin() {
+        // Cyrillic А, О and Greek Ρ mixed into a Latin word
+        assertEquals("airdrop", TextNormalizer.fold("АIRDRОΡ"));
+    }
+
+    @Test
+    void fold_IgnoresTurkishDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            assertEquals("claim it", TextNormalizer.fold("CLAIM IT"));
+            assertEquals("claim", TextNormalizer.fold("CLAİM"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+}
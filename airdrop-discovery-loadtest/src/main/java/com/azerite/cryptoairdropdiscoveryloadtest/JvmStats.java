@@ -0,0 +1,52 @@
+package com.azerite.cryptoairdropdiscoveryloadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Snapshot of the garbage collection and allocation counters of this JVM.
+ *
+ * @param gcCount        Number of collections over all collectors
+ * @param gcTimeMillis   Accumulated collection time over all collectors
+ * @param allocatedBytes Bytes allocated by all threads so far, or -1 if the JVM does not track it
+ * @param heapUsedBytes  Heap in use at the time of the snapshot
+ */
+record JvmStats(long gcCount, long gcTimeMillis, long allocatedBytes, long heapUsedBytes) {
+
+    /**
+     * Takes a snapshot of the current counters.
+     *
+     * @return The snapshot
+     */
+    static JvmStats capture() {
+        long count = 0;
+        long time = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, collector.getCollectionCount());
+            time += Math.max(0, collector.getCollectionTime());
+        }
+
+        long allocated = -1;
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean hotspotThreads
+                && hotspotThreads.isThreadAllocatedMemorySupported()
+                && hotspotThreads.isThreadAllocatedMemoryEnabled()) {
+            allocated = hotspotThreads.getTotalThreadAllocatedBytes();
+        }
+
+        long heapUsed = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        return new JvmStats(count, time, allocated, heapUsed);
+    }
+
+    /**
+     * Computes the counters accumulated since an earlier snapshot. The heap usage is the current one.
+     *
+     * @param earlier The earlier snapshot
+     * @return The difference between both snapshots
+     */
+    JvmStats since(JvmStats earlier) {
+        long allocated = allocatedBytes < 0 || earlier.allocatedBytes < 0 ? -1 : allocatedBytes - earlier.allocatedBytes;
+        return new JvmStats(gcCount - earlier.gcCount, gcTimeMillis - earlier.gcTimeMillis, allocated, heapUsedBytes);
+    }
+}
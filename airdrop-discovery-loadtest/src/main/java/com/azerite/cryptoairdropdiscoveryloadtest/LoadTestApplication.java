@@ -0,0 +1,11 @@
+package com.azerite.cryptoairdropdiscoveryloadtest;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Application under test, started in the load test JVM when no external target is given.
+ * It only consists of the auto-configured starter on top of an embedded database.
+ */
+@SpringBootApplication
+public class LoadTestApplication {
+}
@@ -0,0 +1,86 @@
+package com.azerite.cryptoairdropdiscoveryloadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Options of a load test run, parsed from --name=value arguments.
+ * Arguments the load test does not know are passed on to the embedded application,
+ * e.g. --spring.datasource.url=jdbc:postgresql://localhost:5432/airdrops.
+ *
+ * @param rate            Requests per second, ingest and queries together
+ * @param duration        Length of the measured run
+ * @param warmup          Length of the unmeasured warm-up before the run
+ * @param queryRatio      Share of requests that are queries instead of ingests
+ * @param seed            Seed of the synthetic tweet sequence
+ * @param reportInterval  How often interval statistics are printed
+ * @param maxInFlight     Maximum number of outstanding requests
+ * @param target          Base URL of an already running application, or null to start one embedded
+ * @param applicationArgs Arguments passed to the embedded application
+ */
+record LoadTestOptions(int rate, Duration duration, Duration warmup, double queryRatio, long seed,
+                       Duration reportInterval, int maxInFlight, String target, String[] applicationArgs) {
+
+    static final String USAGE = "Usage: LoadTestRunner [--rate=5000] [--duration=60s] [--warmup=10s] "
+            + "[--query-ratio=0.05] [--seed=42] [--report-interval=10s] [--max-in-flight=20000] "
+            + "[--target=http://host:8080/api] [spring args...]";
+
+    /**
+     * Parses the command line.
+     *
+     * @param args The command line arguments
+     * @return The parsed options
+     * @throws IllegalArgumentException if a value is invalid
+     */
+    static LoadTestOptions parse(String[] args) {
+        int rate = 5000;
+        Duration duration = Duration.ofSeconds(60);
+        Duration warmup = Duration.ofSeconds(10);
+        double queryRatio = 0.05;
+        long seed = 42;
+        Duration reportInterval = Duration.ofSeconds(10);
+        int maxInFlight = 20_000;
+        String target = null;
+        List<String> applicationArgs = new ArrayList<>();
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String name = separator > 0 ? arg.substring(0, separator) : arg;
+            String value = separator > 0 ? arg.substring(separator + 1) : "";
+            switch (name) {
+                case "--rate" -> rate = Integer.parseInt(value);
+                case "--duration" -> duration = parseDuration(value);
+                case "--warmup" -> warmup = parseDuration(value);
+                case "--query-ratio" -> queryRatio = Double.parseDouble(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--report-interval" -> reportInterval = parseDuration(value);
+                case "--max-in-flight" -> maxInFlight = Integer.parseInt(value);
+                case "--target" -> target = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                default -> applicationArgs.add(arg);
+            }
+        }
+
+        if (rate <= 0 || maxInFlight <= 0 || queryRatio < 0 || queryRatio > 1) {
+            throw new IllegalArgumentException("Invalid options. " + USAGE);
+        }
+        return new LoadTestOptions(rate, duration, warmup, queryRatio, seed, reportInterval, maxInFlight, target,
+                applicationArgs.toArray(new String[0]));
+    }
+
+    /**
+     * Parses durations like 500ms, 30s, 5m or 2h.
+     */
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Invalid duration: " + value);
+        };
+    }
+}
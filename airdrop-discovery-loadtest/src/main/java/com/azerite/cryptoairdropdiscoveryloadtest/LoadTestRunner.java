@@ -0,0 +1,339 @@
+package com.azerite.cryptoairdropdiscoveryloadtest;
+
+import com.azerite.cryptoairdropdiscoveryloadtest.SyntheticTweetGenerator.SyntheticTweet;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load and soak test driving the ingest and query endpoints at a fixed request rate.
+ * Requests are issued open-loop on virtual threads and latency is measured from the time a request was
+ * scheduled, so a stalled server shows up in the percentiles instead of silently lowering the rate.
+ * Unless a target is given, the starter is started in this JVM on an embedded H2 database in PostgreSQL mode.
+ *
+ * <pre>
+ * ./gradlew :airdrop-discovery-loadtest:loadTest -PloadTestArgs="--rate=5000 --duration=5m"
+ * ./gradlew :airdrop-discovery-loadtest:loadTest -PloadTestArgs="--duration=4h --report-interval=1m"
+ * </pre>
+ */
+public class LoadTestRunner {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = Duration.ofMinutes(1).toNanos() / 1000;
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final Duration QUERY_WINDOW = Duration.ofSeconds(5);
+    private static final List<String> SEARCH_KEYWORDS = List.of("follow", "mint", "galxe", "zk", "claim");
+
+    /**
+     * Endpoint exercised by a request.
+     */
+    private enum Operation {
+        INGEST, FILTERED, SEARCH
+    }
+
+    private final LoadTestOptions options;
+    private final String baseUrl;
+    private final boolean embedded;
+    private final SyntheticTweetGenerator generator;
+    private final SplittableRandom queryRandom;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient;
+    private final Semaphore inFlight;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+
+    /**
+     * Constructor for LoadTestRunner.
+     *
+     * @param options  The options of the run
+     * @param baseUrl  Base URL of the application under test
+     * @param embedded Whether the application runs in this JVM
+     */
+    LoadTestRunner(LoadTestOptions options, String baseUrl, boolean embedded) {
+        this.options = options;
+        this.baseUrl = baseUrl;
+        this.embedded = embedded;
+        this.generator = new SyntheticTweetGenerator(options.seed());
+        this.queryRandom = new SplittableRandom(options.seed() + 1);
+        this.inFlight = new Semaphore(options.maxInFlight());
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    /**
+     * Main method to run a load test.
+     *
+     * @param args Load test options followed by arguments for the embedded application
+     */
+    public static void main(String[] args) {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestOptions.USAGE);
+            System.exit(1);
+            return;
+        }
+
+        if (options.target() != null) {
+            new LoadTestRunner(options, options.target(), false).run();
+            return;
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+                .run(options.applicationArgs())) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+            new LoadTestRunner(options, "http://localhost:" + port + contextPath, true).run();
+        }
+    }
+
+    /**
+     * Runs the warm-up and the measured phase and prints the results.
+     */
+    void run() {
+        System.out.printf("Load test against %s: %d req/s, %.0f%% queries, %s warm-up, %s measured, seed %d%n",
+                baseUrl, options.rate(), options.queryRatio() * 100, options.warmup(), options.duration(),
+                options.seed());
+
+        drive(options.warmup(), false);
+        awaitInFlight();
+        stats.values().forEach(OperationStats::reset);
+
+        JvmStats before = JvmStats.capture();
+        long start = System.nanoTime();
+        drive(options.duration(), true);
+        awaitInFlight();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        stats.values().forEach(OperationStats::drainInterval);
+
+        printSummary(seconds, JvmStats.capture().since(before));
+        executor.shutdown();
+    }
+
+    /**
+     * Issues requests at the configured rate for the given time.
+     *
+     * @param duration How long to issue requests
+     * @param measured Whether interval reports are printed
+     */
+    private void drive(Duration duration, boolean measured) {
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long reportNanos = options.reportInterval().toNanos();
+        long nextReport = start + reportNanos;
+        JvmStats intervalStart = JvmStats.capture();
+        long issued = 0;
+
+        while (true) {
+            long now = System.nanoTime();
+            long next = start + issued * 1_000_000_000L / options.rate();
+            while (next <= now && next < end) {
+                submit(next);
+                issued++;
+                next = start + issued * 1_000_000_000L / options.rate();
+            }
+            if (next >= end) {
+                break;
+            }
+
+            if (measured && now >= nextReport) {
+                JvmStats current = JvmStats.capture();
+                printInterval(Duration.ofNanos(now - start), current.since(intervalStart), reportNanos);
+                intervalStart = current;
+                nextReport += reportNanos;
+            }
+
+            LockSupport.parkNanos(Math.min(next - now, 100_000));
+        }
+    }
+
+    /**
+     * Sends one request on a virtual thread.
+     *
+     * @param scheduledAt The time the request was due, latency is measured from here
+     */
+    private void submit(long scheduledAt) {
+        Operation operation;
+        HttpRequest request;
+        if (queryRandom.nextDouble() < options.queryRatio()) {
+            operation = queryRandom.nextBoolean() ? Operation.FILTERED : Operation.SEARCH;
+            request = queryRequest(operation);
+        } else {
+            operation = Operation.INGEST;
+            request = ingestRequest(generator.next());
+        }
+
+        OperationStats operationStats = stats.get(operation);
+        inFlight.acquireUninterruptibly();
+        executor.execute(() -> {
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                operationStats.record(response.statusCode(), System.nanoTime() - scheduledAt);
+            } catch (IOException e) {
+                operationStats.recordError(System.nanoTime() - scheduledAt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    private HttpRequest ingestRequest(SyntheticTweet tweet) {
+        try {
+            String body = objectMapper.writeValueAsString(Map.of(
+                    "text", tweet.text(),
+                    "source", tweet.source(),
+                    "link", tweet.link()));
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/airdrops/ingest"))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize synthetic tweet", e);
+        }
+    }
+
+    private HttpRequest queryRequest(Operation operation) {
+        // Poll like a client that only wants the last few seconds of airdrops
+        String since = URLEncoder.encode(LocalDateTime.now().minus(QUERY_WINDOW).toString(), StandardCharsets.UTF_8);
+        String path = operation == Operation.FILTERED
+                ? "/airdrops/filtered?since=" + since
+                : "/airdrops/search?keyword=" + SEARCH_KEYWORDS.get(queryRandom.nextInt(SEARCH_KEYWORDS.size()))
+                + "&since=" + since;
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private void awaitInFlight() {
+        inFlight.acquireUninterruptibly(options.maxInFlight());
+        inFlight.release(options.maxInFlight());
+    }
+
+    private void printInterval(Duration elapsed, JvmStats jvm, long intervalNanos) {
+        StringBuilder line = new StringBuilder(String.format("[%6ds]", elapsed.toSeconds()));
+        double seconds = intervalNanos / 1_000_000_000.0;
+        for (Operation operation : Operation.values()) {
+            Histogram interval = stats.get(operation).drainInterval();
+            line.append(String.format(" | %s %.0f/s p99 %.2fms", operation.name().toLowerCase(),
+                    interval.getTotalCount() / seconds, interval.getValueAtPercentile(99) / 1000.0));
+        }
+        line.append(String.format(" | heap %dMB gc %d (%dms)", jvm.heapUsedBytes() >> 20, jvm.gcCount(),
+                jvm.gcTimeMillis()));
+        System.out.println(line);
+    }
+
+    private void printSummary(double seconds, JvmStats jvm) {
+        long totalRequests = 0;
+        System.out.printf("%nResults over %.1fs%n", seconds);
+        System.out.printf("%-9s %10s %9s %9s %9s %7s %9s %9s %9s %9s %9s%n", "operation", "requests", "req/s",
+                "ok", "rejected", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Operation operation : Operation.values()) {
+            OperationStats operationStats = stats.get(operation);
+            Histogram total = operationStats.total;
+            totalRequests += total.getTotalCount();
+            System.out.printf("%-9s %10d %9.0f %9d %9d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation.name().toLowerCase(), total.getTotalCount(), total.getTotalCount() / seconds,
+                    operationStats.ok.sum(), operationStats.rejected.sum(), operationStats.errors.sum(),
+                    total.getValueAtPercentile(50) / 1000.0, total.getValueAtPercentile(90) / 1000.0,
+                    total.getValueAtPercentile(99) / 1000.0, total.getValueAtPercentile(99.9) / 1000.0,
+                    total.getMaxValue() / 1000.0);
+        }
+
+        System.out.printf("%nGC: %d collections, %dms (%.1f%% of run), heap in use %dMB%n", jvm.gcCount(),
+                jvm.gcTimeMillis(), jvm.gcTimeMillis() / (seconds * 10), jvm.heapUsedBytes() >> 20);
+        if (jvm.allocatedBytes() >= 0) {
+            System.out.printf("Allocated: %dMB (%.1fMB/s, %.1fKB per request)%s%n", jvm.allocatedBytes() >> 20,
+                    jvm.allocatedBytes() / seconds / (1 << 20),
+                    totalRequests > 0 ? jvm.allocatedBytes() / 1024.0 / totalRequests : 0.0,
+                    embedded ? ", load generator included" : ", load generator only");
+        }
+    }
+
+    /**
+     * Latency and outcome statistics of one operation.
+     * Ingest requests answered with 400 are tweets that were not recognized as airdrops and count as rejected.
+     */
+    private static final class OperationStats {
+
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private Histogram interval;
+
+        void record(int status, long latencyNanos) {
+            if (status < 300) {
+                ok.increment();
+            } else if (status < 500) {
+                rejected.increment();
+            } else {
+                errors.increment();
+            }
+            recordLatency(latencyNanos);
+        }
+
+        void recordError(long latencyNanos) {
+            errors.increment();
+            recordLatency(latencyNanos);
+        }
+
+        private void recordLatency(long latencyNanos) {
+            recorder.recordValue(Math.min(latencyNanos / 1000, HIGHEST_TRACKABLE_MICROS));
+        }
+
+        /**
+         * Moves the latencies recorded since the last call into the total and returns them.
+         */
+        Histogram drainInterval() {
+            interval = recorder.getIntervalHistogram(interval);
+            total.add(interval);
+            return interval;
+        }
+
+        /**
+         * Drops everything recorded so far, used after the warm-up.
+         */
+        void reset() {
+            interval = recorder.getIntervalHistogram(interval);
+            total.reset();
+            ok.reset();
+            rejected.reset();
+            errors.reset();
+        }
+    }
+}
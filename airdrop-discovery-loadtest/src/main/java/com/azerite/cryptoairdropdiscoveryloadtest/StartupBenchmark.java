@@ -0,0 +1,157 @@
+package com.azerite.cryptoairdropdiscoveryloadtest;
+
+import com.azerite.cryptoairdropdiscoveryloadtest.SyntheticTweetGenerator.Kind;
+import com.azerite.cryptoairdropdiscoveryloadtest.SyntheticTweetGenerator.SyntheticTweet;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures how long a fresh JVM takes until the starter has accepted its first tweet.
+ * Every run starts a new JVM, so class loading and JIT warm-up are part of the measurement.
+ * JVM options for the runs, e.g. a CDS archive or AOT mode, are passed with --jvm-arg.
+ *
+ * <pre>
+ * ./gradlew :airdrop-discovery-loadtest:startupBenchmark -PstartupArgs="--runs=10"
+ * ./gradlew :airdrop-discovery-loadtest:startupBenchmark -PstartupArgs="--jvm-arg=-XX:SharedArchiveFile=app.jsa"
+ * </pre>
+ */
+public class StartupBenchmark {
+
+    private static final String PROBE = "--probe";
+    private static final String RESULT_PREFIX = "STARTUP ";
+
+    /**
+     * Main method to run the benchmark, or a single measured startup when called with --probe.
+     *
+     * @param args --runs=N and --jvm-arg=... options followed by arguments for the application
+     * @throws Exception If a run can not be started or does not report a result
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals(PROBE)) {
+            probe(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
+        int runs = 5;
+        List<String> jvmArgs = new ArrayList<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--runs=")) {
+                runs = Integer.parseInt(arg.substring("--runs=".length()));
+            } else if (arg.startsWith("--jvm-arg=")) {
+                jvmArgs.add(arg.substring("--jvm-arg=".length()));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+
+        long[] contextMillis = new long[runs];
+        long[] firstIngestMillis = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            long[] result = runProbe(jvmArgs, applicationArgs);
+            contextMillis[run] = result[0];
+            firstIngestMillis[run] = result[1];
+            System.out.printf("Run %d: context started after %dms, first tweet ingested after %dms%n",
+                    run + 1, result[0], result[1]);
+        }
+
+        Arrays.sort(contextMillis);
+        Arrays.sort(firstIngestMillis);
+        System.out.printf("%nOver %d runs (min / median / max):%n", runs);
+        System.out.printf("  context started   %5d / %5d / %5d ms%n",
+                contextMillis[0], contextMillis[runs / 2], contextMillis[runs - 1]);
+        System.out.printf("  first ingest      %5d / %5d / %5d ms%n",
+                firstIngestMillis[0], firstIngestMillis[runs / 2], firstIngestMillis[runs - 1]);
+    }
+
+    /**
+     * Starts a new JVM running the probe and reads its result line.
+     */
+    private static long[] runProbe(List<String> jvmArgs, List<String> applicationArgs)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(StartupBenchmark.class.getName());
+        command.add(PROBE);
+        command.addAll(applicationArgs);
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        long[] result = null;
+        try (BufferedReader output = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = output.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    String[] values = line.substring(RESULT_PREFIX.length()).split(" ");
+                    result = new long[]{Long.parseLong(values[0]), Long.parseLong(values[1])};
+                }
+            }
+        }
+
+        int exitCode = process.waitFor();
+        if (exitCode != 0 || result == null) {
+            throw new IllegalStateException("Startup probe failed with exit code " + exitCode);
+        }
+        return result;
+    }
+
+    /**
+     * Starts the application, ingests one airdrop tweet over HTTP and prints the elapsed times
+     * measured from the start of the JVM.
+     */
+    private static void probe(String[] applicationArgs) throws IOException, InterruptedException {
+        long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+                .run(applicationArgs)) {
+            long contextStarted = System.currentTimeMillis();
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+            HttpResponse<Void> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + contextPath + "/airdrops/ingest"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(firstAirdrop()))
+                            .build(),
+                    HttpResponse.BodyHandlers.discarding());
+            long firstIngest = System.currentTimeMillis();
+
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("First ingest was answered with status " + response.statusCode());
+            }
+            System.out.println(RESULT_PREFIX + (contextStarted - jvmStart) + " " + (firstIngest - jvmStart));
+        }
+    }
+
+    private static String firstAirdrop() throws IOException {
+        SyntheticTweetGenerator generator = new SyntheticTweetGenerator(1);
+        SyntheticTweet tweet = generator.next();
+        while (tweet.kind() != Kind.AIRDROP) {
+            tweet = generator.next();
+        }
+        return new ObjectMapper().writeValueAsString(Map.of(
+                "text", tweet.text(),
+                "source", tweet.source(),
+                "link", tweet.link()));
+    }
+}
@@ -0,0 +1,181 @@
+package com.azerite.cryptoairdropdiscoveryloadtest;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic generator of synthetic tweets for load tests.
+ * The same seed always yields the same sequence, so runs before and after an upgrade see identical traffic.
+ * The mix contains airdrop announcements (half of them with task lists), airdrops that must be excluded
+ * because they are scams or have ended, unrelated crypto chatter and re-posts of recent airdrop tweets.
+ * Keywords match the default keyword configuration of the starter.
+ */
+public class SyntheticTweetGenerator {
+
+    /**
+     * Kind of a generated tweet, with the outcome the ingest endpoint is expected to produce.
+     */
+    public enum Kind {
+        /** An airdrop announcement that should be stored. */
+        AIRDROP,
+        /** An airdrop announcement containing an exclusion keyword. */
+        EXCLUDED,
+        /** A tweet without any airdrop keyword. */
+        NOISE,
+        /** An exact re-post of a recent airdrop announcement. */
+        DUPLICATE
+    }
+
+    /**
+     * A generated tweet.
+     *
+     * @param text   The tweet text
+     * @param source The source of the tweet
+     * @param link   The link to the tweet
+     * @param kind   The kind of tweet
+     */
+    public record SyntheticTweet(String text, String source, String link, Kind kind) {
+    }
+
+    private static final List<String> PREFIXES = List.of(
+            "lay", "nova", "astr", "orb", "flux", "hyper", "quan", "terra", "sol", "vel", "arc", "lum", "pyth", "echo");
+    private static final List<String> SUFFIXES = List.of("swap", "fi", "chain", "labs", "dao", "x", "protocol", "net");
+    private static final List<String> ACTIONS = List.of(
+            "Follow @%s and turn on notifications",
+            "Mint the %s genesis pass",
+            "Complete the %s quest on Galxe",
+            "Bridge to the %s zk rollup testnet",
+            "Claim your %s points before the snapshot",
+            "Join the %s Discord and verify your wallet",
+            "Retweet and tag 3 friends",
+            "Provide liquidity on %s");
+    private static final List<String> HEADLINES = List.of(
+            "🪂 %s airdrop is live! Claim now",
+            "%s airdrop confirmed 🔥 Claim your tokens",
+            "Don't miss the %s airdrop, follow the steps below",
+            "🚀 New %s campaign: mint and earn",
+            "%s zk season 2 rewards are here");
+    private static final List<String> EXCLUSIONS = List.of(
+            "Beware, this looks like a scam.",
+            "Update: the campaign has ended, thanks everyone.",
+            "Reported as a scam by the community.");
+    private static final List<String> NOISE = List.of(
+            "BTC just broke $%dk, what a week for the market",
+            "Gas on mainnet is at %d gwei right now",
+            "Reading through the %s whitepaper tonight",
+            "Who else is watching the %s chart today?",
+            "Our %s validator has been up for %d days straight",
+            "Hot take: %s will flip the majors this cycle");
+    private static final List<String> BULLETS = List.of("- ", "• ", "* ");
+    private static final List<String> SOURCES = List.of("Twitter", "Twitter", "Twitter", "Telegram", "Discord");
+
+    private static final int RECENT_AIRDROPS = 256;
+
+    private final SplittableRandom random;
+    private final double airdropRatio;
+    private final double excludedRatio;
+    private final double duplicateRatio;
+    private final SyntheticTweet[] recentAirdrops = new SyntheticTweet[RECENT_AIRDROPS];
+
+    private long sequence;
+    private int recentCount;
+
+    /**
+     * Constructor for SyntheticTweetGenerator with a typical traffic mix:
+     * 30% airdrops, 5% excluded airdrops, 5% duplicates and 60% unrelated tweets.
+     *
+     * @param seed Seed of the generated sequence
+     */
+    public SyntheticTweetGenerator(long seed) {
+        this(seed, 0.30, 0.05, 0.05);
+    }
+
+    /**
+     * Constructor for SyntheticTweetGenerator. The remaining share of tweets is unrelated chatter.
+     *
+     * @param seed           Seed of the generated sequence
+     * @param airdropRatio   Share of new airdrop announcements
+     * @param excludedRatio  Share of airdrop announcements containing an exclusion keyword
+     * @param duplicateRatio Share of re-posts of recent airdrop announcements
+     */
+    public SyntheticTweetGenerator(long seed, double airdropRatio, double excludedRatio, double duplicateRatio) {
+        if (airdropRatio < 0 || excludedRatio < 0 || duplicateRatio < 0
+                || airdropRatio + excludedRatio + duplicateRatio > 1) {
+            throw new IllegalArgumentException("Ratios must be non-negative and add up to at most 1");
+        }
+        this.random = new SplittableRandom(seed);
+        this.airdropRatio = airdropRatio;
+        this.excludedRatio = excludedRatio;
+        this.duplicateRatio = duplicateRatio;
+    }
+
+    /**
+     * Generates the next tweet of the sequence. Not thread safe.
+     *
+     * @return The next synthetic tweet
+     */
+    public SyntheticTweet next() {
+        long id = ++sequence;
+        double roll = random.nextDouble();
+
+        if (roll < duplicateRatio && recentCount > 0) {
+            SyntheticTweet original = recentAirdrops[random.nextInt(Math.min(recentCount, RECENT_AIRDROPS))];
+            return new SyntheticTweet(original.text(), original.source(), original.link(), Kind.DUPLICATE);
+        }
+
+        String source = pick(SOURCES);
+        String link = "https://twitter.com/" + project() + "/status/" + (1_700_000_000_000_000_000L + id);
+
+        if (roll < duplicateRatio + airdropRatio) {
+            SyntheticTweet tweet = new SyntheticTweet(airdropText(), source, link, Kind.AIRDROP);
+            recentAirdrops[recentCount++ % RECENT_AIRDROPS] = tweet;
+            return tweet;
+        }
+        if (roll < duplicateRatio + airdropRatio + excludedRatio) {
+            return new SyntheticTweet(airdropText() + "\n" + pick(EXCLUSIONS), source, link, Kind.EXCLUDED);
+        }
+        return new SyntheticTweet(noiseText(), source, link, Kind.NOISE);
+    }
+
+    private String airdropText() {
+        String project = capitalize(project());
+        StringBuilder text = new StringBuilder(String.format(pick(HEADLINES), project));
+
+        if (random.nextBoolean()) {
+            // Structured task list, numbered or bulleted
+            boolean numbered = random.nextBoolean();
+            String bullet = pick(BULLETS);
+            int tasks = 2 + random.nextInt(4);
+            text.append("\n");
+            for (int i = 1; i <= tasks; i++) {
+                text.append("\n")
+                        .append(numbered ? i + ". " : bullet)
+                        .append(String.format(pick(ACTIONS), project));
+            }
+        } else {
+            text.append(" ").append(String.format(pick(ACTIONS), project)).append(".");
+        }
+
+        text.append("\n\n#").append(project).append(" #crypto");
+        return text.toString();
+    }
+
+    private String noiseText() {
+        String template = pick(NOISE);
+        return template.contains("%s")
+                ? String.format(template, capitalize(project()), 1 + random.nextInt(900))
+                : String.format(template, 20 + random.nextInt(100));
+    }
+
+    private String project() {
+        return pick(PREFIXES) + pick(SUFFIXES);
+    }
+
+    private String pick(List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+}
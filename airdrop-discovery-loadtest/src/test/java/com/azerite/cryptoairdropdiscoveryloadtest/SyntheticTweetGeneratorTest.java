@@ -0,0 +1,73 @@
+package com.azerite.cryptoairdropdiscoveryloadtest;
+
+import com.azerite.cryptoairdropdiscoveryloadtest.SyntheticTweetGenerator.Kind;
+import com.azerite.cryptoairdropdiscoveryloadtest.SyntheticTweetGenerator.SyntheticTweet;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticTweetGeneratorTest {
+
+    private static final List<String> POSITIVE = List.of("follow", "mint", "galxe", "zk", "claim");
+    private static final List<String> NEGATIVE = List.of("scam", "ended");
+
+    @Test
+    void next_WithSameSeed_GeneratesSameSequence() {
+        // Given
+        SyntheticTweetGenerator first = new SyntheticTweetGenerator(7);
+        SyntheticTweetGenerator second = new SyntheticTweetGenerator(7);
+
+        // When & Then
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(first.next(), second.next());
+        }
+    }
+
+    @Test
+    void next_GeneratesConfiguredMix() {
+        // Given
+        SyntheticTweetGenerator generator = new SyntheticTweetGenerator(42, 0.30, 0.05, 0.05);
+        Map<Kind, Integer> counts = new EnumMap<>(Kind.class);
+        Set<String> airdropLinks = new HashSet<>();
+
+        // When
+        for (int i = 0; i < 20_000; i++) {
+            SyntheticTweet tweet = generator.next();
+            counts.merge(tweet.kind(), 1, Integer::sum);
+            String text = tweet.text().toLowerCase(Locale.ROOT);
+
+            // Then
+            switch (tweet.kind()) {
+                case AIRDROP -> {
+                    assertTrue(containsAny(text, POSITIVE), tweet.text());
+                    assertFalse(containsAny(text, NEGATIVE), tweet.text());
+                    assertTrue(airdropLinks.add(tweet.link()));
+                }
+                case EXCLUDED -> assertTrue(containsAny(text, POSITIVE) && containsAny(text, NEGATIVE), tweet.text());
+                case NOISE -> assertFalse(containsAny(text, POSITIVE), tweet.text());
+                case DUPLICATE -> assertTrue(airdropLinks.contains(tweet.link()));
+            }
+        }
+
+        assertEquals(0.30, counts.get(Kind.AIRDROP) / 20_000.0, 0.02);
+        assertEquals(0.05, counts.get(Kind.EXCLUDED) / 20_000.0, 0.01);
+        assertEquals(0.05, counts.get(Kind.DUPLICATE) / 20_000.0, 0.01);
+        assertEquals(0.60, counts.get(Kind.NOISE) / 20_000.0, 0.02);
+    }
+
+    @Test
+    void constructor_WithRatiosAboveOne_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticTweetGenerator(1, 0.8, 0.2, 0.1));
+    }
+
+    private static boolean containsAny(String text, List<String> keywords) {
+        return keywords.stream().anyMatch(text::contains);
+    }
+}
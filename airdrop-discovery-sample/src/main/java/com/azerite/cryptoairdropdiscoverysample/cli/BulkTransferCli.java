@@ -0,0 +1,84 @@
+package com.azerite.cryptoairdropdiscoverysample.cli;
+
+import com.azerite.cryptoairdropdiscovery.bulk.BulkFormat;
+import com.azerite.cryptoairdropdiscovery.bulk.BulkImportException;
+import com.azerite.cryptoairdropdiscovery.bulk.BulkTransferService;
+import com.azerite.cryptoairdropdiscoverysample.SampleApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Command line entry point for bulk import and export of airdrop tweets.
+ * Runs the sample application without a web server against its configured database, which enables
+ * {@code azerite.airdrop-discovery.bulk.enabled}.
+ *
+ * <pre>
+ * ./gradlew :airdrop-discovery-sample:bulkTransfer --args="import tweets.ndjson.gz"
+ * ./gradlew :airdrop-discovery-sample:bulkTransfer --args="export tweets.bin binary"
+ * </pre>
+ *
+ * Files ending in .gz are gzip compressed. The format defaults to binary for .bin files and NDJSON otherwise.
+ */
+public class BulkTransferCli {
+
+    private static final String USAGE = "Usage: BulkTransferCli import|export <file> [ndjson|binary] [spring args...]";
+
+    /**
+     * Main method to run a bulk import or export.
+     *
+     * @param args The command, the file and optionally the format, followed by Spring Boot arguments
+     * @throws IOException If the file can not be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || !(args[0].equals("import") || args[0].equals("export"))) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        Path file = Path.of(args[1]);
+        String fileName = file.getFileName().toString();
+        boolean gzip = fileName.endsWith(".gz");
+        boolean formatGiven = args.length > 2 && !args[2].startsWith("--");
+        BulkFormat format = formatGiven ? BulkFormat.fromName(args[2])
+                : fileName.contains(".bin") ? BulkFormat.BINARY : BulkFormat.NDJSON;
+        String[] springArgs = Arrays.copyOfRange(args, formatGiven ? 3 : 2, args.length);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SampleApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(springArgs)) {
+            BulkTransferService bulkTransferService = context.getBean(BulkTransferService.class);
+            long start = System.nanoTime();
+            long count;
+
+            if (args[0].equals("import")) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+                     InputStream in = Channels.newInputStream(channel)) {
+                    count = bulkTransferService.importFrom(in, format, gzip);
+                } catch (BulkImportException e) {
+                    System.err.printf("Import failed after %d airdrop tweets: %s%n", e.getImported(), e.getMessage());
+                    throw e;
+                }
+            } else {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                     OutputStream out = Channels.newOutputStream(channel)) {
+                    count = bulkTransferService.exportTo(out, format, gzip);
+                }
+            }
+
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            System.out.printf("%sed %d airdrop tweets (%s%s) in %.1fs%n",
+                    args[0].equals("import") ? "Import" : "Export", count, format, gzip ? ", gzip" : "", seconds);
+        }
+    }
+}